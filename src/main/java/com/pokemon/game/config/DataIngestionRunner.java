@@ -4,12 +4,24 @@ import com.pokemon.game.repository.StaticAbilityDataRepository;
 import com.pokemon.game.repository.StaticMoveDataRepository;
 import com.pokemon.game.repository.StaticPokemonDataRepository;
 import com.pokemon.game.repository.StaticTypeDataRepository;
+import com.pokemon.game.service.IngestionCheckpointStore;
 import com.pokemon.game.service.PokeApiIngestionService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshotLoader;
+import com.pokemon.game.service.WarmupState;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  *
@@ -21,6 +33,10 @@ import reactor.core.publisher.Mono;
 public class DataIngestionRunner implements CommandLineRunner {
 
     private final PokeApiIngestionService ingestionService;
+    private final StaticDataRegistry staticDataRegistry;
+    private final StaticDataSnapshotLoader snapshotLoader;
+    private final IngestionCheckpointStore checkpointStore;
+    private final WarmupState warmupState;
 
     // Inyectar TODOS los repositorios estáticos
     private final StaticPokemonDataRepository pokemonRepository;
@@ -28,74 +44,158 @@ public class DataIngestionRunner implements CommandLineRunner {
     private final StaticAbilityDataRepository abilityRepository;
     private final StaticMoveDataRepository moveRepository;
 
+    @Value("${game.static-data.snapshot.export-on-ingest:true}")
+    private boolean exportOnIngest;
+
+    // missing: sólo se ingieren las tablas vacías; incremental: se recorre todo
+    // y se escriben sólo los registros cuyo hash de contenido ha cambiado
+    @Value("${game.static-data.ingestion.mode:missing}")
+    private String ingestionMode;
+
+    private volatile Disposable warmup;
+
+    /**
+     * No bloquea el arranque: la aplicación empieza a aceptar conexiones y el
+     * calentamiento (snapshot o ingesta y carga del registro) sigue en segundo
+     * plano. El tráfico de juego queda bloqueado hasta que termina.
+     */
     @Override
-    public void run(String... args) throws Exception {
-        log.info("Iniciando verificación e ingesta de datos estáticos...");
+    public void run(String... args) {
+        log.info("Iniciando calentamiento de datos estáticos en segundo plano...");
         long startTime = System.currentTimeMillis();
 
-        // Cadena de ingesta reactiva
-        Mono<Void> ingestionChain = Mono.empty();
+        warmup = warmUp()
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        v -> {
+                        },
+                        e -> {
+                            log.error("¡FALLÓ la ingesta de datos (dentro del flujo reactivo)!", e);
+                            // Con datos ya en la BD el juego puede seguir; sin ellos, no
+                            if (staticDataRegistry.current().speciesCount() > 0) {
+                                log.warn("Se sirven los datos estáticos existentes pese al fallo de la ingesta.");
+                                warmupState.ready();
+                            } else {
+                                warmupState.failed(e.getMessage());
+                            }
+                        },
+                        () -> {
+                            warmupState.ready();
+                            log.info("¡Calentamiento completado en {} ms! Se acepta tráfico de juego.", System.currentTimeMillis() - startTime);
+                        });
+    }
+
+    @PreDestroy
+    void stopWarmup() {
+        if (warmup != null) {
+            warmup.dispose();
+        }
+    }
+
+    private Mono<Void> warmUp() {
+        return Mono.defer(() -> {
+            // BD vacía y snapshot disponible: se arranca desde el fichero, sin red
+            if (isStaticDataEmpty() && snapshotLoader.isSnapshotAvailable()) {
+                warmupState.begin(WarmupState.Phase.LOADING_SNAPSHOT, 1);
+                try {
+                    snapshotLoader.loadIntoDatabase();
+                    warmupState.stepCompleted("SNAPSHOT");
+                    return Mono.empty();
+                } catch (Exception e) {
+                    log.error("No se pudo cargar el snapshot de datos estáticos. Se usará la PokeAPI.", e);
+                }
+            }
+            return ingestMissing();
+        });
+    }
+
+    private Mono<Void> ingestMissing() {
+        Set<PokeApiIngestionService.Stage> stages = EnumSet.noneOf(PokeApiIngestionService.Stage.class);
 
         // Tarea 1: Tipos
         if (typeRepository.count() == 0) {
             log.warn("Base de datos de Tipos vacía. Iniciando ingesta de Tipos...");
-            ingestionChain = ingestionChain.then(ingestionService.ingestTypes());
+            stages.add(PokeApiIngestionService.Stage.TYPES);
         } else {
-            log.info("Tipos ya existen. Cargando caché de Tipos desde la BD.");
-            // Si ya existen, necesitamos cargar el caché para los siguientes pasos
-            ingestionChain = ingestionChain.then(ingestionService.loadTypeCache());
+            log.info("Tipos ya existen. Saltando ingesta de Tipos.");
         }
 
-        // Tarea 2: Habilidades
-        if (abilityRepository.count() == 0) {
-            log.warn("Base de datos de Habilidades vacía. Iniciando ingesta de Habilidades...");
-            ingestionChain = ingestionChain.then(ingestionService.ingestAbilities());
+        // Tarea 2: Habilidades (independiente de Tipos: se ingiere en paralelo)
+        if (abilityRepository.count() == 0 || checkpointStore.isInProgress(PokeApiIngestionService.Stage.ABILITIES)) {
+            log.warn("Habilidades vacías o a medias. Iniciando ingesta de Habilidades...");
+            stages.add(PokeApiIngestionService.Stage.ABILITIES);
         } else {
-            log.info("Habilidades ya existen. Cargando caché de Habilidades desde la BD.");
-            ingestionChain = ingestionChain.then(ingestionService.loadAbilityCache());
+            log.info("Habilidades ya existen. Saltando ingesta de Habilidades.");
         }
 
         // Tarea 3: Movimientos (Depende de Tipos)
-        if (moveRepository.count() == 0) {
-            log.warn("Base de datos de Movimientos vacía. Iniciando ingesta de Movimientos...");
-            ingestionChain = ingestionChain.then(ingestionService.ingestMoves());
+        if (moveRepository.count() == 0 || checkpointStore.isInProgress(PokeApiIngestionService.Stage.MOVES)) {
+            log.warn("Movimientos vacíos o a medias. Iniciando ingesta de Movimientos...");
+            stages.add(PokeApiIngestionService.Stage.MOVES);
         } else {
-            log.info("Movimientos ya existen. Cargando caché de Movimientos desde la BD.");
-            ingestionChain = ingestionChain.then(ingestionService.loadMoveCache());
+            log.info("Movimientos ya existen. Saltando ingesta de Movimientos.");
         }
 
         // Tarea 4: Pokémon (Depende de Tipos, Habilidades, Movimientos)
-        if (pokemonRepository.count() == 0) {
-            log.warn("Base de datos de Pokémon vacía. Iniciando ingesta de Pokémon...");
-            ingestionChain = ingestionChain.then(ingestionService.ingestPokemon());
+        if (pokemonRepository.count() == 0 || checkpointStore.isInProgress(PokeApiIngestionService.Stage.POKEMON)) {
+            log.warn("Pokémon vacíos o a medias. Iniciando ingesta de Pokémon...");
+            stages.add(PokeApiIngestionService.Stage.POKEMON);
         } else {
             log.info("Pokémon ya existe. Saltando ingesta de Pokémon.");
         }
-
-        // Tarea 5: Relaciones de Tipos (Depende de Tipos)
-        // Esta tarea actualiza los tipos existentes, por lo que la ejecutamos
-        // si los tipos existen (ya sea de la ingesta o de la carga de caché).
-        if (typeRepository.count() > 0) {
-            log.info("Actualizando relaciones de daño de Tipos...");
-            ingestionChain = ingestionChain.then(ingestionService.ingestTypeDamageRelations());
-        } else {
-            log.warn("Saltando relaciones de daño de Tipos (los tipos no están cargados).");
+        if ("incremental".equalsIgnoreCase(ingestionMode)) {
+            log.info("Modo incremental: se comprobarán todas las etapas contra sus hashes de contenido.");
+            stages.addAll(EnumSet.allOf(PokeApiIngestionService.Stage.class));
         }
+        boolean ingesting = !stages.isEmpty();
+
+        // Tarea 5: Efectividades entre tipos (depende de Tipos)
+        // Siempre se comprueba; sólo reescribe type_efficacy si cambió su hash.
+        log.info("Comprobando relaciones de daño de Tipos...");
+        stages.add(PokeApiIngestionService.Stage.TYPE_RELATIONS);
 
-        // Ejecutar la cadena
-        try {
-            ingestionChain
-                    .doOnSuccess(v -> {
-                        long endTime = System.currentTimeMillis();
-                        log.info("¡Ingesta/Verificación de datos completada exitosamente en {} ms!", (endTime - startTime));
-                    })
-                    .doOnError(e -> {
-                        log.error("¡FALLÓ la ingesta de datos (dentro del flujo reactivo)!", e);
-                    })
-                    .block();
-        } catch (Exception e) {
-            log.error("¡FALLÓ la ingesta de datos con una excepción bloqueante!", e);
-            log.error("Excepción: ", e);
+        // Cadena de ingesta reactiva. El registro se carga primero con lo que ya
+        // haya en la BD; cada etapa lo recarga al guardar para que sus
+        // dependientes puedan resolver sus referencias.
+        AtomicBoolean changed = new AtomicBoolean();
+        warmupState.begin(WarmupState.Phase.INGESTING, stages.size() + 1);
+        Mono<Void> ingestionChain = Mono.fromRunnable(() -> {
+            staticDataRegistry.reload();
+            warmupState.stepCompleted("REGISTRY");
+        })
+                .then(ingestionService.ingest(stages, (stage, elapsed, written) -> {
+                    if (written > 0) {
+                        changed.set(true);
+                    }
+                    warmupState.stepCompleted(stage.name());
+                }))
+                .then();
+
+        // Se reexporta siempre que la ingesta haya escrito algo: un nodo nuevo
+        // que arranque desde el fichero no debe quedarse con datos viejos
+        if (exportOnIngest) {
+            ingestionChain = ingestionChain.then(Mono.defer(() -> {
+                boolean firstExport = ingesting && !snapshotLoader.isSnapshotAvailable();
+                if (!changed.get() && !firstExport) {
+                    return Mono.empty();
+                }
+                return Mono.fromCallable(() -> {
+                    snapshotLoader.export();
+                    return true;
+                }).onErrorResume(e -> {
+                    log.warn("No se pudo exportar el snapshot de datos estáticos: {}", e.getMessage());
+                    return Mono.empty();
+                }).then();
+            }));
         }
+
+        return ingestionChain;
+    }
+
+    private boolean isStaticDataEmpty() {
+        return typeRepository.count() == 0
+                && abilityRepository.count() == 0
+                && moveRepository.count() == 0
+                && pokemonRepository.count() == 0;
     }
 }
@@ -0,0 +1,66 @@
+package com.pokemon.game.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Pools separados de escritura (spring.datasource) y lectura
+ * (game.datasource.read.*). Sólo se activa si hay URL de lectura; si no, la
+ * aplicación usa el pool único de siempre.
+ *
+ * @author Luis
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "game.datasource.read", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("write");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+            @Value("${game.datasource.read.url}") String url,
+            @Value("${game.datasource.read.username:}") String username,
+            @Value("${game.datasource.read.password:}") String password,
+            @Value("${game.datasource.read.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("read");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+            @Value("${game.datasource.read.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${game.datasource.read.max-lag:5s}") Duration maxLag) {
+        return new ReplicaLagMonitor(readDataSource, lagQuery, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(writeDataSource, readDataSource, replicaLagMonitor));
+    }
+}
@@ -0,0 +1,37 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.PasswordHashingPool;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Ejecuta encode y matches del codificador real en el {@link PasswordHashingPool}
+ * en lugar de en el hilo de la petición. upgradeEncoding sólo lee la cabecera
+ * del hash, así que va directo.
+ *
+ * @author Luis
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingPool pool;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return pool.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return pool.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
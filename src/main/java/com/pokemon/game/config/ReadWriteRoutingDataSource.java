@@ -0,0 +1,37 @@
+package com.pokemon.game.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envía las transacciones @Transactional(readOnly = true) a la réplica y todo
+ * lo demás (escrituras y trabajo sin transacción) a la primaria. Tiene que ir
+ * detrás de un LazyConnectionDataSourceProxy: el gestor de transacciones pide
+ * la conexión antes de marcar la transacción como de sólo lectura.
+ *
+ * @author Luis
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITE, READ
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.WRITE, primary, Route.READ, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && lagMonitor.isReplicaUsable() ? Route.READ : Route.WRITE;
+    }
+}
@@ -0,0 +1,84 @@
+package com.pokemon.game.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Vigila el retraso de la réplica de lectura. Si no responde, si la
+ * replicación está parada o si el retraso pasa de max-lag, las transacciones
+ * de sólo lectura vuelven a la primaria hasta la siguiente comprobación.
+ *
+ * La consulta por defecto es SHOW REPLICA STATUS. Sin filas (una BD normal
+ * haciendo de réplica en local) el retraso cuenta como 0.
+ *
+ * @author Luis
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master", "lag");
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile Duration lastLag;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public Duration lastLag() {
+        return lastLag;
+    }
+
+    @Scheduled(fixedDelayString = "${game.datasource.read.lag-check-interval-ms:5000}")
+    public void check() {
+        Duration lag;
+        try {
+            lag = currentLag();
+        } catch (RuntimeException e) {
+            log.debug("Comprobación de la réplica fallida", e);
+            lag = null;
+        }
+
+        boolean nowUsable = lag != null && lag.compareTo(maxLag) <= 0;
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                log.info("Réplica de lectura disponible (retraso {} s). Las lecturas vuelven a la réplica.", lag.toSeconds());
+            } else {
+                log.warn("Réplica de lectura no disponible o con retraso {} (máximo {} s). Lecturas a la primaria.",
+                        lag == null ? "desconocido" : lag.toSeconds() + " s", maxLag.toSeconds());
+            }
+        }
+        lastLag = lag;
+        usable = nowUsable;
+    }
+
+    // null = replicación parada (el estado existe pero sin retraso)
+    private Duration currentLag() {
+        List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList(lagQuery);
+        if (rows.isEmpty()) {
+            return Duration.ZERO;
+        }
+        Map<String, Object> status = rows.get(0);
+        for (Map.Entry<String, Object> column : status.entrySet()) {
+            if (LAG_COLUMNS.stream().anyMatch(name -> name.equalsIgnoreCase(column.getKey()))) {
+                return column.getValue() instanceof Number seconds ? Duration.ofSeconds(seconds.longValue()) : null;
+            }
+        }
+        return null;
+    }
+}
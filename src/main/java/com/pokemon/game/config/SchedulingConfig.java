@@ -0,0 +1,14 @@
+package com.pokemon.game.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ *
+ * @author Luis
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
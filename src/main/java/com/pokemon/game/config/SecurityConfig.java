@@ -1,6 +1,11 @@
 package com.pokemon.game.config;
 
+import com.pokemon.game.service.AuthTokenCodec;
+import com.pokemon.game.service.PasswordHashingPool;
 import com.pokemon.game.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,10 +17,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -34,8 +41,19 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingPool passwordHashingPool(
+            @Value("${game.auth.hashing.threads:0}") int threads,
+            @Value("${game.auth.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${game.auth.hashing.max-wait:2s}") Duration maxWait,
+            MeterRegistry meterRegistry) {
+        return new PasswordHashingPool(threads, queueCapacity, maxWait, meterRegistry);
+    }
+
+    // Subir el coste re-hashea cada contraseña en su siguiente login correcto (UserDetailsPasswordService)
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${game.auth.bcrypt.strength:10}") int strength,
+            PasswordHashingPool passwordHashingPool) {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingPool);
     }
 
     @Bean
@@ -55,15 +73,23 @@ public class SecurityConfig {
         return source;
     }
 
+    // Con AuthTokenCodec (modo sin estado) no se crea HttpSession: cada petición trae su token
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, ObjectProvider<AuthTokenCodec> authTokenCodec) throws Exception {
+        AuthTokenCodec tokens = authTokenCodec.getIfAvailable();
+        if (tokens != null) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokens), UsernamePasswordAuthenticationFilter.class);
+        }
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.ALWAYS))
+                .sessionManagement(session -> session.sessionCreationPolicy(
+                tokens != null ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.ALWAYS))
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()))
                 .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/api/warmup", "/actuator/health/**").permitAll()
                 .requestMatchers("/game-websocket/**").permitAll()
                 .requestMatchers("/api/game/**").authenticated()
                 .anyRequest().authenticated()
@@ -0,0 +1,42 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.AuthTokenCodec;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modo sin estado (game.auth.stateless.enabled=true): /api/auth/login
+ * devuelve un token firmado y ni REST ni STOMP usan HttpSession. Con este
+ * bean presente, {@link SecurityConfig} pasa a STATELESS y añade
+ * {@link TokenAuthenticationFilter}, y {@link WebSocketConfig} registra
+ * {@link StompTokenInterceptor} para el CONNECT.
+ *
+ * @author Luis
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "game.auth.stateless", name = "enabled", havingValue = "true")
+@Slf4j
+public class StatelessAuthConfig {
+
+    @Bean
+    public AuthTokenCodec authTokenCodec(@Value("${game.auth.token.secret:}") String secret,
+            @Value("${game.auth.token.ttl:15m}") Duration ttl) {
+        byte[] key;
+        if (secret.isBlank()) {
+            // Sin secreto compartido los tokens sólo valen en este nodo y hasta el próximo reinicio
+            log.warn("game.auth.token.secret no está definido: se usa una clave aleatoria local.");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = Base64.getDecoder().decode(secret);
+        }
+        return new AuthTokenCodec(key, ttl, Clock.systemUTC());
+    }
+}
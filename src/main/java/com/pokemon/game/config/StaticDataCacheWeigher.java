@@ -0,0 +1,78 @@
+package com.pokemon.game.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+
+/**
+ * Peso aproximado en bytes de las entradas de la caché de segundo nivel,
+ * para acotar las regiones por memoria y no por número de entradas: una
+ * especie con su descripción y su learnset pesa mucho más que un tipo.
+ *
+ * Se recorre el estado desensamblado que guarda Hibernate; lo que no se
+ * reconoce cuenta como un objeto pequeño.
+ *
+ * @author Luis
+ */
+public class StaticDataCacheWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_BYTES = 16;
+    private static final int REFERENCE_BYTES = 8;
+    private static final int MAX_DEPTH = 4;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (depth > MAX_DEPTH) {
+            return OBJECT_BYTES;
+        }
+        if (value instanceof String s) {
+            return 40L + 2L * s.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return OBJECT_BYTES;
+        }
+        if (value instanceof StandardCacheEntryImpl entry) {
+            return OBJECT_BYTES + estimate(entry.getDisassembledState(), depth + 1);
+        }
+        if (value instanceof CollectionCacheEntry entry) {
+            return OBJECT_BYTES + estimate(entry.getState(), depth + 1);
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = OBJECT_BYTES + (long) REFERENCE_BYTES * collection.size();
+            for (Object element : collection) {
+                bytes += estimate(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = OBJECT_BYTES + 2L * REFERENCE_BYTES * map.size();
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                bytes += estimate(e.getKey(), depth + 1) + estimate(e.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return OBJECT_BYTES + (long) REFERENCE_BYTES * length;
+            }
+            long bytes = OBJECT_BYTES + (long) REFERENCE_BYTES * length;
+            for (int i = 0; i < length; i++) {
+                bytes += estimate(Array.get(value, i), depth + 1);
+            }
+            return bytes;
+        }
+        return 4L * OBJECT_BYTES;
+    }
+}
@@ -0,0 +1,44 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.AuthTokenCodec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * En modo sin estado, el CONNECT de STOMP debe traer la cabecera nativa
+ * {@code Authorization: Bearer <token>}. El usuario verificado queda asociado
+ * a la sesión WebSocket y {@link WebSocketSecurityConfig} autoriza el resto de
+ * frames con él.
+ *
+ * @author Luis
+ */
+public class StompTokenInterceptor implements ChannelInterceptor {
+
+    private final AuthTokenCodec authTokenCodec;
+
+    public StompTokenInterceptor(AuthTokenCodec authTokenCodec) {
+        this.authTokenCodec = authTokenCodec;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String header = accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(TokenAuthenticationFilter.BEARER_PREFIX)) {
+            throw new MessageDeliveryException(message, "Falta el token de sesión en el CONNECT.");
+        }
+        accessor.setUser(authTokenCodec.verify(header.substring(TokenAuthenticationFilter.BEARER_PREFIX.length()))
+                .orElseThrow(() -> new MessageDeliveryException(message, "Token de sesión no válido o caducado.")));
+        return message;
+    }
+}
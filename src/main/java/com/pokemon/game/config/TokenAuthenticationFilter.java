@@ -0,0 +1,44 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.AuthTokenCodec;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Autentica la petición con la cabecera {@code Authorization: Bearer <token>}.
+ * Un token ausente, alterado o caducado deja la petición sin autenticar y las
+ * reglas de {@link SecurityConfig} deciden.
+ *
+ * @author Luis
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenCodec authTokenCodec;
+
+    public TokenAuthenticationFilter(AuthTokenCodec authTokenCodec) {
+        this.authTokenCodec = authTokenCodec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            authTokenCodec.verify(header.substring(BEARER_PREFIX.length())).ifPresent(authentication -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.WarmupState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rechaza los mensajes STOMP a /app/** (lobbies, matchmaking, batallas)
+ * mientras dura el calentamiento. Conexiones y suscripciones pasan, para que
+ * el cliente pueda quedarse conectado esperando.
+ *
+ * @author Luis
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupChannelInterceptor implements ChannelInterceptor {
+
+    private final WarmupState warmupState;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (warmupState.isReady()) {
+            return message;
+        }
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (type == SimpMessageType.MESSAGE && destination != null && destination.startsWith("/app/")) {
+            throw new MessageDeliveryException(message, WarmupGateConfig.NOT_READY_MESSAGE);
+        }
+        return message;
+    }
+}
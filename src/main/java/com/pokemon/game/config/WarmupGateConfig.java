@@ -0,0 +1,47 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.service.WarmupState;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Bloquea las peticiones REST a /api/game/** hasta que termina el
+ * calentamiento. Los mensajes STOMP los filtra {@link WarmupChannelInterceptor}.
+ * Login, registro, health y /api/warmup siguen abiertos.
+ *
+ * @author Luis
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WarmupGateConfig implements WebMvcConfigurer {
+
+    public static final String NOT_READY_MESSAGE = "El servidor aún está cargando los datos del juego. Inténtalo en unos segundos.";
+
+    private final WarmupState warmupState;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                if (warmupState.isReady()) {
+                    return true;
+                }
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.setCharacterEncoding("UTF-8");
+                response.getWriter().write(NOT_READY_MESSAGE);
+                return false;
+            }
+        }).addPathPatterns("/api/game/**");
+    }
+}
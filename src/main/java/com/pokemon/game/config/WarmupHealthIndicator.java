@@ -0,0 +1,34 @@
+package com.pokemon.game.config;
+
+import com.pokemon.game.dto.WarmupStatusDTO;
+import com.pokemon.game.service.WarmupState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador "warmup", incluido en el grupo de readiness: la instancia no
+ * recibe tráfico hasta que termina el calentamiento.
+ *
+ * @author Luis
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupState warmupState;
+
+    @Override
+    public Health health() {
+        WarmupStatusDTO status = warmupState.status();
+        Health.Builder builder = status.ready() ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", status.phase())
+                .withDetail("progress", status.completedSteps() + "/" + status.totalSteps())
+                .withDetail("elapsedMs", status.elapsedMs());
+        if (status.error() != null) {
+            builder.withDetail("error", status.error());
+        }
+        return builder.build();
+    }
+}
@@ -1,15 +1,37 @@
 package com.pokemon.game.config;
 
+import io.netty.channel.ChannelOption;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
 /**
+ * Cliente de la PokeAPI: pool de conexiones acotado, gzip, límite de memoria
+ * por respuesta y reintentos con backoff y jitter para fallos transitorios.
+ *
+ * Los bodies sólo se registran con pokeapi.client.log-bodies=true, para una
+ * muestra de las respuestas y sin pasar de log-max-body-bytes. El body se
+ * copia mientras fluye hacia el decoder, nunca se lee entero aparte.
  *
  * @author Luis
  */
@@ -19,39 +41,130 @@ public class WebClientConfig {
     @Value("${pokeapi.base-uri}")
     private String pokeApiBaseUri;
 
+    @Value("${pokeapi.client.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${pokeapi.client.pending-acquire-timeout:30s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${pokeapi.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${pokeapi.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${pokeapi.client.response-timeout:60s}")
+    private Duration responseTimeout;
+
+    @Value("${pokeapi.client.max-in-memory-size:16MB}")
+    private DataSize maxInMemorySize;
+
+    @Value("${pokeapi.client.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${pokeapi.client.retry.backoff:500ms}")
+    private Duration retryBackoff;
+
+    @Value("${pokeapi.client.retry.jitter:0.5}")
+    private double retryJitter;
+
+    @Value("${pokeapi.client.log-bodies:false}")
+    private boolean logBodies;
+
+    @Value("${pokeapi.client.log-sample-rate:0.1}")
+    private double logSampleRate;
+
+    @Value("${pokeapi.client.log-max-body-bytes:2048}")
+    private DataSize logMaxBodyBytes;
+
     private static final Logger log = LoggerFactory.getLogger(WebClientConfig.class);
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider pokeApiConnectionProvider() {
+        return ConnectionProvider.builder("pokeapi")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+    }
+
     @Bean
-    public WebClient pokeApiWebClient(WebClient.Builder builder) {
+    public WebClient pokeApiWebClient(WebClient.Builder builder, ConnectionProvider pokeApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(pokeApiConnectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
         return builder
                 .baseUrl(pokeApiBaseUri)
-                .filter(logRequest())
-                .filter(logResponse())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .filter(retryTransientFailures())
+                .filter(logExchange())
                 .build();
     }
 
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info(">>> API REQUEST: {} {}", clientRequest.method(), clientRequest.url());
-            clientRequest.headers().forEach((name, values) -> values.forEach(value -> log.info(">>> Header: {}={}", name, value)));
-            return Mono.just(clientRequest);
-        });
+    /**
+     * Reintenta errores de conexión, 429 y 5xx. Al agotar los intentos se
+     * propaga el último error tal cual.
+     */
+    private ExchangeFilterFunction retryTransientFailures() {
+        return (request, next) -> next.exchange(request)
+                .flatMap(response -> isTransient(response.statusCode().value())
+                        ? response.createException().flatMap(Mono::<ClientResponse>error)
+                        : Mono.just(response))
+                .retryWhen(Retry.backoff(retryMaxAttempts, retryBackoff)
+                        .jitter(retryJitter)
+                        .filter(WebClientConfig::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("Reintentando petición a la PokeAPI ({}): {}",
+                                signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
     }
 
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("<<< API RESPONSE: Status {}", clientResponse.statusCode());
-
-            return clientResponse.bodyToMono(String.class)
-                    .flatMap(body -> {
-                        log.info("<<< API BODY: {}", body);
-
-                        return Mono.just(clientResponse.mutate().body(body).build());
-                    })
-                    .onErrorResume(e -> {
-                        log.error("<<< No se pudo leer el body de la respuesta: {}", e.getMessage());
-                        return Mono.just(clientResponse);
-                    });
-        });
+    private static boolean isTransient(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= 500;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return isTransient(e.getStatusCode().value());
+        }
+        return error instanceof WebClientRequestException;
+    }
+
+    private ExchangeFilterFunction logExchange() {
+        AtomicLong sequence = new AtomicLong();
+        return (request, next) -> {
+            long id = sequence.incrementAndGet();
+            long start = System.nanoTime();
+            log.debug(">>> API REQUEST #{}: {} {}", id, request.method(), request.url());
+
+            return next.exchange(request).map(response -> {
+                log.debug("<<< API RESPONSE #{}: Status {} en {} ms", id, response.statusCode(),
+                        Duration.ofNanos(System.nanoTime() - start).toMillis());
+                if (!logBodies || ThreadLocalRandom.current().nextDouble() >= logSampleRate) {
+                    return response;
+                }
+                return response.mutate().body(body -> {
+                    int cap = (int) logMaxBodyBytes.toBytes();
+                    ByteArrayOutputStream head = new ByteArrayOutputStream(Math.min(cap, 8192));
+                    AtomicLong total = new AtomicLong();
+                    return body
+                            .doOnNext(buffer -> {
+                                int readable = buffer.readableByteCount();
+                                int take = Math.min(readable, cap - head.size());
+                                if (take > 0) {
+                                    byte[] bytes = new byte[take];
+                                    buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, take);
+                                    head.write(bytes, 0, take);
+                                }
+                                total.addAndGet(readable);
+                            })
+                            .doOnComplete(() -> log.info("<<< API BODY #{} ({} de {} bytes): {}", id, head.size(), total.get(),
+                                    head.toString(StandardCharsets.UTF_8)));
+                }).build();
+            });
+        };
     }
 }
@@ -1,8 +1,12 @@
 package com.pokemon.game.config;
 
+import com.pokemon.game.service.AuthTokenCodec;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -15,8 +19,12 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Configuration
 @EnableWebSocketMessageBroker
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WarmupChannelInterceptor warmupChannelInterceptor;
+    private final ObjectProvider<AuthTokenCodec> authTokenCodec;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/game-websocket")
@@ -30,4 +38,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // El orden de esta clase pone el token antes que los interceptores de Spring Security
+        AuthTokenCodec tokens = authTokenCodec.getIfAvailable();
+        if (tokens != null) {
+            registration.interceptors(new StompTokenInterceptor(tokens));
+        }
+        registration.interceptors(warmupChannelInterceptor);
+    }
 }
@@ -6,6 +6,11 @@ import com.pokemon.game.model.Role;
 import com.pokemon.game.model.User;
 import com.pokemon.game.repository.RoleRepository;
 import com.pokemon.game.repository.UserRepository;
+import com.pokemon.game.dto.AuthTokenDTO;
+import com.pokemon.game.service.AuthTokenCodec;
+import com.pokemon.game.service.PasswordHashingBusyException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +18,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -31,25 +37,34 @@ public class AuthController {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthTokenCodec authTokenCodec;
 
     public AuthController(AuthenticationManager authenticationManager,
             UserRepository userRepository,
             RoleRepository roleRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            ObjectProvider<AuthTokenCodec> authTokenCodec) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.authTokenCodec = authTokenCodec.getIfAvailable();
     }
 
     @PostMapping("/login")
-    public ResponseEntity<String> authenticateUser(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 loginRequest.username(),
                 loginRequest.password()
         );
         Authentication authentication = authenticationManager.authenticate(authToken);
 
+        // Modo sin estado: el cliente manda el token en Authorization (REST) y en el CONNECT (STOMP)
+        if (authTokenCodec != null) {
+            AuthTokenCodec.IssuedToken token = authTokenCodec.issue(authentication);
+            return ResponseEntity.ok(new AuthTokenDTO(token.token(), "Bearer", token.expiresAt()));
+        }
+
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         return ResponseEntity.ok("¡Usuario logueado exitosamente!");
@@ -75,4 +90,12 @@ public class AuthController {
 
         return ResponseEntity.ok("¡Usuario registrado exitosamente!");
     }
+
+    // BCrypt corre en un pool acotado: si está lleno se rechaza en vez de encolar sin límite
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handleHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
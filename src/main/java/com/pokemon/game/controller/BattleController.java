@@ -3,12 +3,11 @@ package com.pokemon.game.controller;
 import com.pokemon.game.dto.BattleActionDTO;
 import com.pokemon.game.dto.payload.BattleUpdatePayload;
 import com.pokemon.game.model.Player;
-import com.pokemon.game.model.User;
-import com.pokemon.game.repository.PlayerRepository;
-import com.pokemon.game.repository.UserRepository;
 import com.pokemon.game.service.BattleService;
 import com.pokemon.game.service.IBattleStateManagerService;
 import com.pokemon.game.service.IGameLobbyService;
+import com.pokemon.game.service.ILeaderboardService;
+import com.pokemon.game.service.IdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -31,10 +30,10 @@ public class BattleController {
 
     private final IBattleStateManagerService battleStateManager;
     private final IGameLobbyService gameLobbyService;
+    private final ILeaderboardService leaderboardService;
     private final SimpMessagingTemplate messagingTemplate;
 
-    private final UserRepository userRepository;
-    private final PlayerRepository playerRepository;
+    private final IdentityCache identityCache;
 
     @MessageMapping("/battle/{lobbyId}/action")
     public void handleBattleAction(
@@ -53,12 +52,13 @@ public class BattleController {
         BattleService battle = battleStateManager.getBattle(lobbyId);
 
         try {
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
-            Player player = playerRepository.findByUser(user)
-                    .orElseThrow(() -> new RuntimeException("Jugador no encontrado"));
+            // Desde la caché de identidades: sin consulta por acción una vez resuelto el jugador
+            Long playerId = identityCache.playerId(username);
+            if (playerId == null) {
+                throw new IllegalStateException("Jugador no encontrado");
+            }
 
-            BattleUpdatePayload updatePayload = battle.executeTurn(player.getId(), action.moveName());
+            BattleUpdatePayload updatePayload = battle.executeTurn(playerId, action.moveName());
 
             log.info("Acción válida. Daño: {}. Siguiente turno: ID {}", updatePayload.damageDealt(), updatePayload.nextTurnPlayerId());
 
@@ -75,6 +75,7 @@ public class BattleController {
                 log.info("Batalla {} finalizada. Ganador ID: {}", lobbyId, updatePayload.winnerId());
 
                 gameLobbyService.finishGame(lobbyId);
+                recordResult(battle, updatePayload.winnerId());
 
                 for (Player battlePlayer : battle.getPlayersMap().values()) {
                     String resultMessage = battlePlayer.getId().equals(updatePayload.winnerId()) ? "VICTORIA" : "DERROTA";
@@ -97,6 +98,17 @@ public class BattleController {
         }
     }
 
+    private void recordResult(BattleService battle, Long winnerId) {
+        if (winnerId == null) {
+            return;
+        }
+        Player winner = battle.getPlayersMap().get(winnerId);
+        battle.getPlayersMap().values().stream()
+                .filter(player -> !player.getId().equals(winnerId))
+                .findFirst()
+                .ifPresent(loser -> leaderboardService.recordResult(winner, loser));
+    }
+
     private void sendError(String username, String errorMessage) {
         messagingTemplate.convertAndSendToUser(
                 username,
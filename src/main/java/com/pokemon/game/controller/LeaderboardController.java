@@ -0,0 +1,37 @@
+package com.pokemon.game.controller;
+
+import com.pokemon.game.dto.LeaderboardEntryDTO;
+import com.pokemon.game.service.ILeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * @author Luis
+ */
+@RestController
+@RequestMapping("/api/game/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final ILeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getTop(offset, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<LeaderboardEntryDTO> getMyStanding() {
+        return ResponseEntity.of(leaderboardService.getMyStanding());
+    }
+}
@@ -0,0 +1,42 @@
+package com.pokemon.game.controller;
+
+import com.pokemon.game.service.IMatchHistoryService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * @author Luis
+ */
+@RestController
+@RequestMapping("/api/game/matches")
+@RequiredArgsConstructor
+public class MatchHistoryController {
+
+    private final IMatchHistoryService matchHistoryService;
+
+    @GetMapping
+    public ResponseEntity<?> getMyHistory(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(matchHistoryService.getMyHistory(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{matchId}")
+    public ResponseEntity<?> getMatch(@PathVariable UUID matchId) {
+        try {
+            return ResponseEntity.ok(matchHistoryService.getMatch(matchId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.pokemon.game.controller;
+
+import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.dto.TeamValidationResultDTO;
+import com.pokemon.game.service.ITeamService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * @author Luis
+ */
+@RestController
+@RequestMapping("/api/game/teams")
+@RequiredArgsConstructor
+public class TeamController {
+
+    private final ITeamService teamService;
+
+    @PostMapping("/validate")
+    public ResponseEntity<?> validateTeams(@RequestBody List<TeamSetupDTO> teams) {
+        try {
+            List<TeamValidationResultDTO> results = teamService.validateTeams(teams);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pokemon.game.controller;
+
+import com.pokemon.game.dto.TeamPresetDTO;
+import com.pokemon.game.request.TeamPresetRequest;
+import com.pokemon.game.service.ITeamPresetService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * @author Luis
+ */
+@RestController
+@RequestMapping("/api/game/presets")
+@RequiredArgsConstructor
+public class TeamPresetController {
+
+    private final ITeamPresetService teamPresetService;
+
+    @GetMapping
+    public List<TeamPresetDTO> getMyPresets() {
+        return teamPresetService.getMyPresets();
+    }
+
+    @PostMapping
+    public ResponseEntity<?> savePreset(@RequestBody TeamPresetRequest request) {
+        try {
+            return ResponseEntity.ok(teamPresetService.savePreset(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{presetId}")
+    public ResponseEntity<Void> deletePreset(@PathVariable Long presetId) {
+        teamPresetService.deletePreset(presetId);
+        return ResponseEntity.noContent().build();
+    }
+}
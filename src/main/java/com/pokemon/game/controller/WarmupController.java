@@ -0,0 +1,28 @@
+package com.pokemon.game.controller;
+
+import com.pokemon.game.dto.WarmupStatusDTO;
+import com.pokemon.game.service.WarmupState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * @author Luis
+ */
+@RestController
+@RequestMapping("/api/warmup")
+@RequiredArgsConstructor
+public class WarmupController {
+
+    private final WarmupState warmupState;
+
+    @GetMapping
+    public ResponseEntity<WarmupStatusDTO> getStatus() {
+        WarmupStatusDTO status = warmupState.status();
+        return ResponseEntity.status(status.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(status);
+    }
+}
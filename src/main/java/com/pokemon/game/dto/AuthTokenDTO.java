@@ -0,0 +1,14 @@
+package com.pokemon.game.dto;
+
+import java.time.Instant;
+
+/**
+ *
+ * @author Luis
+ */
+public record AuthTokenDTO(
+        String token,
+        String tokenType,
+        Instant expiresAt) {
+
+}
@@ -0,0 +1,26 @@
+package com.pokemon.game.dto;
+
+import com.pokemon.game.service.LeaderboardIndex;
+
+/**
+ *
+ * @author Luis
+ */
+public record LeaderboardEntryDTO(
+        int rank,
+        String username,
+        int rating,
+        int wins,
+        int losses) {
+
+    public static LeaderboardEntryDTO fromRanked(LeaderboardIndex.Ranked ranked) {
+        LeaderboardIndex.Standing standing = ranked.standing();
+        return new LeaderboardEntryDTO(
+                ranked.rank(),
+                standing.username(),
+                standing.rating(),
+                standing.wins(),
+                standing.losses()
+        );
+    }
+}
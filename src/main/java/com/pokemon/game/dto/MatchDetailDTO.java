@@ -0,0 +1,30 @@
+package com.pokemon.game.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ *
+ * @author Luis
+ */
+public record MatchDetailDTO(
+        UUID matchId,
+        List<String> players,
+        String winner,
+        int turnCount,
+        long durationMs,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<Turn> turns) {
+
+    public record Turn(
+            String player,
+            String move,
+            int attackerSlot,
+            int defenderSlot,
+            int damage,
+            int defenderHpAfter) {
+
+    }
+}
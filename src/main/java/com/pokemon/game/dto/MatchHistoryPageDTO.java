@@ -0,0 +1,15 @@
+package com.pokemon.game.dto;
+
+import java.util.List;
+
+/**
+ * Página del historial. nextCursor es null en la última página; si no, se
+ * pasa tal cual para pedir la siguiente.
+ *
+ * @author Luis
+ */
+public record MatchHistoryPageDTO(
+        List<MatchSummaryDTO> matches,
+        String nextCursor) {
+
+}
@@ -0,0 +1,18 @@
+package com.pokemon.game.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ *
+ * @author Luis
+ */
+public record MatchSummaryDTO(
+        UUID matchId,
+        String opponent,
+        boolean won,
+        int turnCount,
+        long durationMs,
+        LocalDateTime finishedAt) {
+
+}
@@ -1,6 +1,8 @@
 package com.pokemon.game.dto;
 
 import com.pokemon.game.model.PlayerPokemon;
+import com.pokemon.game.model.PokemonMove;
+import com.pokemon.game.service.StaticDataSnapshot;
 import com.pokemon.game.util.Enums;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -19,20 +21,31 @@ public record PlayerPokemonDTO(
         int slot,
         Set<String> moves) {
 
-    public static PlayerPokemonDTO fromEntity(PlayerPokemon entity) {
-        int maxHp = entity.getBasePokemon().getBaseHp();
+    /**
+     * Los datos de la especie y los movimientos salen del registro estático; la
+     * entidad sólo se consulta si el registro aún no los conoce.
+     */
+    public static PlayerPokemonDTO fromEntity(PlayerPokemon entity, StaticDataSnapshot staticData) {
+        int species = staticData.speciesOrdinalById(entity.getBasePokemon().getId());
+        String name = species >= 0 ? staticData.speciesName(species) : entity.getBasePokemon().getName();
+        int maxHp = species >= 0 ? staticData.baseHp(species) : entity.getBasePokemon().getBaseHp();
 
         return new PlayerPokemonDTO(
                 entity.getId(),
-                entity.getBasePokemon().getName(),
+                name,
                 entity.getLevel(),
                 entity.getCurrentHp(),
                 maxHp,
                 entity.getStatusCondition(),
                 entity.getSlot(),
                 entity.getMoves().stream()
-                        .map(pokemonMove -> pokemonMove.getStaticMoveData().getName())
+                        .map(pokemonMove -> moveName(pokemonMove, staticData))
                         .collect(Collectors.toSet())
         );
     }
+
+    private static String moveName(PokemonMove pokemonMove, StaticDataSnapshot staticData) {
+        int move = staticData.moveOrdinalById(pokemonMove.getStaticMoveData().getId());
+        return move >= 0 ? staticData.moveName(move) : pokemonMove.getStaticMoveData().getName();
+    }
 }
@@ -0,0 +1,15 @@
+package com.pokemon.game.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ *
+ * @author Luis
+ */
+public record StaleLobbyDTO(
+        UUID id,
+        LocalDateTime sweptAt, // Instante por el que se ordena el recorrido (creación o fin de partida)
+        boolean isPublic) {
+
+}
@@ -0,0 +1,37 @@
+package com.pokemon.game.dto;
+
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.TeamPreset;
+import com.pokemon.game.model.TeamPresetMove;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *
+ * @author Luis
+ */
+public record TeamPresetDTO(
+        Long id,
+        String name,
+        List<String> pokemonNames,
+        List<List<String>> moveSets) {
+
+    public static TeamPresetDTO fromEntity(TeamPreset preset) {
+        List<List<String>> moveSets = new ArrayList<>(preset.getMembers().size());
+        for (int slot = 1; slot <= preset.getMembers().size(); slot++) {
+            moveSets.add(new ArrayList<>());
+        }
+        for (TeamPresetMove move : preset.getMoves()) {
+            moveSets.get(move.getSlotPosition() - 1).add(move.getStaticMoveData().getName());
+        }
+
+        return new TeamPresetDTO(
+                preset.getId(),
+                preset.getName(),
+                preset.getMembers().stream()
+                        .map(StaticPokemonData::getName)
+                        .toList(),
+                moveSets
+        );
+    }
+}
@@ -7,6 +7,12 @@ import java.util.List;
  * @author Luis
  */
 public record TeamSetupDTO(
-        List<String> pokemonNames
+        List<String> pokemonNames,
+        List<List<String>> moveSets, // Opcional: movimientos de cada Pokémon, en el mismo orden que pokemonNames
+        Long presetId // Si viene informado, se usa el equipo guardado y se ignora pokemonNames
 ) {
-}
\ No newline at end of file
+
+    public TeamSetupDTO(List<String> pokemonNames) {
+        this(pokemonNames, null, null);
+    }
+}
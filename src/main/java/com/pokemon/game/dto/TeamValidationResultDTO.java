@@ -0,0 +1,14 @@
+package com.pokemon.game.dto;
+
+import java.util.List;
+
+/**
+ *
+ * @author Luis
+ */
+public record TeamValidationResultDTO(
+        int index,
+        boolean valid,
+        List<String> errors) {
+
+}
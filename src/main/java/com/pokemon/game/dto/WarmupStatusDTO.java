@@ -0,0 +1,18 @@
+package com.pokemon.game.dto;
+
+import java.util.List;
+
+/**
+ *
+ * @author Luis
+ */
+public record WarmupStatusDTO(
+        String phase,
+        boolean ready,
+        int completedSteps,
+        int totalSteps,
+        List<String> completed,
+        long elapsedMs,
+        String error) {
+
+}
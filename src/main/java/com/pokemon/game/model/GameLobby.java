@@ -2,6 +2,7 @@ package com.pokemon.game.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.pokemon.game.util.Enums;
+import com.pokemon.game.util.TimeOrderedUuid;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +22,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  *
@@ -33,8 +38,10 @@ import lombok.Setter;
 @Builder
 public class GameLobby {
 
+    // UUID v7 en BINARY(16): ordenado por tiempo, la mitad de bytes que CHAR(36)
     @Id
-    @Column(updatable = false, nullable = false, columnDefinition = "CHAR(36)")
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Enumerated(EnumType.STRING)
@@ -44,6 +51,16 @@ public class GameLobby {
     @Column(nullable = false)
     private boolean isPublic;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
     @JsonManagedReference
     @OneToMany(
             mappedBy = "gameLobby",
@@ -56,7 +73,10 @@ public class GameLobby {
     @PrePersist
     public void prePersist() {
         if (this.id == null) {
-            this.id = UUID.randomUUID();
+            this.id = TimeOrderedUuid.next();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
         }
     }
 
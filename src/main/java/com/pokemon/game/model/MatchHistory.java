@@ -0,0 +1,58 @@
+package com.pokemon.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Resultado de una batalla terminada. Se escribe una sola vez y usa la misma
+ * ID que tenía el lobby.
+ *
+ * @author Luis
+ */
+@Entity
+@Table(name = "match_history", schema = "pokemon_game_db")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchHistory {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(updatable = false, nullable = false, columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "is_public", nullable = false, updatable = false)
+    private boolean isPublic;
+
+    @Column(name = "winner_player_id", updatable = false)
+    private Long winnerPlayerId;
+
+    @Column(name = "turn_count", nullable = false, updatable = false)
+    private int turnCount;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false, updatable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false, updatable = false)
+    private long durationMs;
+
+    // Turnos codificados con MatchTurnLog y comprimidos con Deflate
+    @Column(name = "turn_log", nullable = false, updatable = false, length = 65535)
+    private byte[] turnLog;
+}
@@ -0,0 +1,67 @@
+package com.pokemon.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Jugador de una partida del historial. Copia el nombre de usuario y la fecha
+ * de fin para que el historial de un jugador se lea sólo con el índice
+ * (player_id, finished_at, match_id).
+ *
+ * @author Luis
+ */
+@Entity
+@Table(name = "match_participants", schema = "pokemon_game_db")
+@IdClass(MatchParticipant.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchParticipant {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "match_id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
+    private UUID matchId;
+
+    @Id
+    @Column(name = "player_id", updatable = false, nullable = false)
+    private Long playerId;
+
+    @Column(nullable = false, updatable = false)
+    private int side;
+
+    @Column(nullable = false, updatable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false, updatable = false)
+    private boolean won;
+
+    @Column(name = "finished_at", nullable = false, updatable = false)
+    private LocalDateTime finishedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private UUID matchId;
+        private Long playerId;
+    }
+}
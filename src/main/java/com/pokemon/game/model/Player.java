@@ -14,9 +14,11 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
-import java.util.ArrayList;
-import java.util.List;
+import jakarta.persistence.TableGenerator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,7 +39,10 @@ import lombok.Setter;
 public class Player {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "player_id")
+    @TableGenerator(name = "player_id", schema = "pokemon_game_db", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "players", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -57,6 +62,7 @@ public class Player {
             cascade = CascadeType.ALL,
             orphanRemoval = true
     )
+    @OrderBy("slot")
     @Builder.Default
-    private List<PlayerPokemon> team = new ArrayList<>();
+    private Set<PlayerPokemon> team = new LinkedHashSet<>();
 }
\ No newline at end of file
@@ -21,7 +21,10 @@ import java.util.Set;
 public class PlayerPokemon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "player_pokemon_id")
+    @TableGenerator(name = "player_pokemon_id", schema = "pokemon_game_db", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "player_pokemons", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -40,7 +43,7 @@ public class PlayerPokemon {
     @Column(name = "slot_position", nullable = false)
     private int slot;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "static_pokemon_id", nullable = false)
     private StaticPokemonData basePokemon;
 
@@ -52,9 +55,8 @@ public class PlayerPokemon {
     @Builder.Default
     @OneToMany(
             mappedBy = "playerPokemon",
-            cascade = CascadeType.ALL, 
-            fetch = FetchType.EAGER,
-            orphanRemoval = true 
+            cascade = CascadeType.ALL,
+            orphanRemoval = true
     )
     private Set<PokemonMove> moves = new HashSet<>();
 
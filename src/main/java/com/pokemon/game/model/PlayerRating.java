@@ -0,0 +1,47 @@
+package com.pokemon.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Copia persistida de la clasificación en memoria. Sólo la escribe el volcado
+ * por lotes de LeaderboardServiceImpl.
+ *
+ * @author Luis
+ */
+@Entity
+@Table(name = "player_ratings", schema = "pokemon_game_db")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerRating {
+
+    @Id
+    @Column(name = "player_id", updatable = false, nullable = false)
+    private Long playerId;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false)
+    private int rating;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -13,7 +13,10 @@ import lombok.*;
 public class PokemonMove {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pokemon_move_id")
+    @TableGenerator(name = "pokemon_move_id", schema = "pokemon_game_db", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "player_pokemon_moves", allocationSize = 50)
     private Long id;
 
     @Column(name = "current_pp", nullable = false)
@@ -26,7 +29,7 @@ public class PokemonMove {
     @JoinColumn(name = "player_pokemon_id", nullable = false)
     private PlayerPokemon playerPokemon;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "static_move_id", nullable = false)
     private StaticMoveData staticMoveData;
 }
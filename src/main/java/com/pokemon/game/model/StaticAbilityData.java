@@ -1,5 +1,6 @@
 package com.pokemon.game.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,12 +14,18 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  *
  * @author Luis
  */
 @Entity
+@Cacheable
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
 @Table(name = "static_ability_data", schema = "pokemon_game_db")
 @Getter
 @Setter
@@ -1,7 +1,9 @@
 package com.pokemon.game.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,12 +17,18 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  *
  * @author Luis
  */
 @Entity
+@Cacheable
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
 @Table(name = "static_move_data", schema = "pokemon_game_db")
 @Getter
 @Setter
@@ -57,7 +65,7 @@ public class StaticMoveData implements Serializable {
     private String damageClass;
 
     // Conexiones
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "static_type_id", nullable = false)
     private StaticTypeData type;
 }
@@ -1,5 +1,6 @@
 package com.pokemon.game.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -17,12 +18,18 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  *
  * @author Luis
  */
 @Entity
+@Cacheable
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
 @Table(name = "static_pokemon_data", schema = "pokemon_game_db")
 @Getter
 @Setter
@@ -63,16 +70,19 @@ public class StaticPokemonData implements Serializable {
 
     // Conexiones
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
     @ManyToMany
     @JoinTable(name = "pokemon_types")
     private Set<StaticTypeData> types = new HashSet<>();
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
     @ManyToMany
     @JoinTable(name = "pokemon_moves")
     private Set<StaticMoveData> moves = new HashSet<>();
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
     @ManyToMany
     @JoinTable(name = "pokemon_abilities")
     private Set<StaticAbilityData> abilities = new HashSet<>();
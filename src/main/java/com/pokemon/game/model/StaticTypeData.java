@@ -1,28 +1,31 @@
 package com.pokemon.game.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  *
  * @author Luis
  */
 @Entity
+@Cacheable
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "static-data")
 @Table(name = "static_type_data", schema = "pokemon_game_db")
 @Getter
 @Setter
@@ -42,20 +45,4 @@ public class StaticTypeData implements Serializable {
 
     @Column(name = "name", unique = true, nullable = false)
     private String name;
-
-    // Conexiones
-    @Builder.Default
-    @ManyToMany
-    @JoinTable(name = "type_double_damage_from")
-    private Set<StaticTypeData> doubleDamageFrom = new HashSet<>();
-
-    @Builder.Default
-    @ManyToMany
-    @JoinTable(name = "type_half_damage_from")
-    private Set<StaticTypeData> halfDamageFrom = new HashSet<>();
-
-    @Builder.Default
-    @ManyToMany
-    @JoinTable(name = "type_no_damage_from")
-    private Set<StaticTypeData> noDamageFrom = new HashSet<>();
 }
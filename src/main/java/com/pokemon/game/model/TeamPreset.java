@@ -0,0 +1,89 @@
+package com.pokemon.game.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ListIndexBase;
+
+/**
+ *
+ * @author Luis
+ */
+@Entity
+@Table(name = "team_presets", schema = "pokemon_game_db")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamPreset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    private Player player;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // El orden de la lista es el orden de los slots del equipo
+    @Builder.Default
+    @ManyToMany
+    @JoinTable(
+            name = "team_preset_pokemon",
+            joinColumns = @JoinColumn(name = "team_preset_id"),
+            inverseJoinColumns = @JoinColumn(name = "static_pokemon_id")
+    )
+    @OrderColumn(name = "slot_position")
+    @ListIndexBase(1)
+    private List<StaticPokemonData> members = new ArrayList<>();
+
+    // Set y no List: se carga junto a members sin duplicar filas por el join
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(
+            name = "team_preset_moves",
+            joinColumns = @JoinColumn(name = "team_preset_id")
+    )
+    @OrderBy("slotPosition, movePosition")
+    private Set<TeamPresetMove> moves = new LinkedHashSet<>();
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
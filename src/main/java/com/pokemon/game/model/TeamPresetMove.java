@@ -0,0 +1,41 @@
+package com.pokemon.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Movimiento de un miembro de un equipo guardado: slot del Pokémon y posición
+ * del movimiento dentro de su moveset.
+ *
+ * @author Luis
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TeamPresetMove {
+
+    @EqualsAndHashCode.Include
+    @Column(name = "slot_position", nullable = false)
+    private int slotPosition;
+
+    @EqualsAndHashCode.Include
+    @Column(name = "move_position", nullable = false)
+    private int movePosition;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "static_move_id", nullable = false)
+    private StaticMoveData staticMoveData;
+}
@@ -0,0 +1,72 @@
+package com.pokemon.game.model;
+
+import com.pokemon.game.util.Enums;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plantilla inmutable de un equipo guardado. Se valida una sola vez al crear el
+ * preset y a partir de ella se instancian los Pokémon de cada batalla en
+ * memoria, con sus movimientos y PP completos, sin insertar filas en
+ * player_pokemons.
+ *
+ * @author Luis
+ */
+public record TeamTemplate(
+        Long presetId,
+        Long playerId,
+        String name,
+        List<Member> members) {
+
+    // Los Pokémon instanciados para una batalla usan IDs negativos que nunca se persisten
+    private static final AtomicLong BATTLE_INSTANCE_IDS = new AtomicLong();
+
+    public TeamTemplate {
+        members = List.copyOf(members);
+    }
+
+    public record Member(
+            int slot,
+            StaticPokemonData basePokemon,
+            List<Move> moves) {
+
+        public Member {
+            moves = List.copyOf(moves);
+        }
+    }
+
+    public record Move(
+            StaticMoveData staticMoveData,
+            int pp) {
+
+    }
+
+    public List<PlayerPokemon> instantiate(Player player) {
+        List<PlayerPokemon> team = new ArrayList<>(members.size());
+        for (Member member : members) {
+            PlayerPokemon pokemon = PlayerPokemon.builder()
+                    .id(BATTLE_INSTANCE_IDS.decrementAndGet())
+                    .player(player)
+                    .basePokemon(member.basePokemon())
+                    .level(100)
+                    .currentHp(member.basePokemon().getBaseHp())
+                    .statusCondition(Enums.StatusCondition.NONE)
+                    .slot(member.slot())
+                    .build();
+            for (Move move : member.moves()) {
+                pokemon.addMove(PokemonMove.builder()
+                        .staticMoveData(move.staticMoveData())
+                        .currentPp(move.pp())
+                        .maxPp(move.pp())
+                        .build());
+            }
+            team.add(pokemon);
+        }
+        return team;
+    }
+
+    public static boolean isBattleInstance(PlayerPokemon pokemon) {
+        return pokemon.getId() != null && pokemon.getId() < 0;
+    }
+}
@@ -1,10 +1,24 @@
 package com.pokemon.game.repository;
 
+import com.pokemon.game.dto.StaleLobbyDTO;
 import com.pokemon.game.model.GameLobby;
 import com.pokemon.game.util.Enums;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,4 +29,58 @@ import org.springframework.stereotype.Repository;
 public interface GameLobbyRepository extends JpaRepository<GameLobby, UUID> {
 
     List<GameLobby> findByIsPublicTrueAndStatus(Enums.GameStatus status);
+
+    // Jugadores y usuarios en la misma consulta; la versión sólo se fuerza en el lobby (p y u no tienen @Version)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_LOCK_MODE + ".p", value = "NONE"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_LOCK_MODE + ".u", value = "NONE")
+    })
+    @Query("SELECT l FROM GameLobby l LEFT JOIN FETCH l.players p LEFT JOIN FETCH p.user u WHERE l.id = :id")
+    Optional<GameLobby> findLockedById(@Param("id") UUID id);
+
+    @EntityGraph(attributePaths = {"players", "players.user"})
+    Optional<GameLobby> findWithPlayersById(UUID id);
+
+    // Transición condicional: con dos envíos simultáneos sólo uno cambia la fila y el otro no choca con @Version
+    @Modifying
+    @Query("UPDATE GameLobby l SET l.status = :to, l.version = l.version + 1 WHERE l.id = :id AND l.status = :from")
+    int updateStatusIfCurrent(@Param("id") UUID id,
+            @Param("from") Enums.GameStatus from,
+            @Param("to") Enums.GameStatus to);
+
+    @Query("SELECT new com.pokemon.game.dto.StaleLobbyDTO(l.id, l.createdAt, l.isPublic) FROM GameLobby l "
+            + "WHERE l.status = :status AND l.createdAt < :cutoff AND SIZE(l.players) <= :maxPlayers "
+            + "AND (l.createdAt > :afterCreatedAt OR (l.createdAt = :afterCreatedAt AND l.id > :afterId)) "
+            + "ORDER BY l.createdAt, l.id")
+    List<StaleLobbyDTO> findExpiredAfter(@Param("status") Enums.GameStatus status,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("maxPlayers") int maxPlayers,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    // Vuelve a comprobar el filtro en el primario y bloquea las filas hasta el commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM GameLobby l WHERE l.id IN :ids AND l.status = :status AND l.createdAt < :cutoff "
+            + "AND SIZE(l.players) <= :maxPlayers")
+    List<GameLobby> lockExpiredByIds(@Param("ids") Collection<UUID> ids,
+            @Param("status") Enums.GameStatus status,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("maxPlayers") int maxPlayers);
+
+    @Query("SELECT new com.pokemon.game.dto.StaleLobbyDTO(l.id, l.finishedAt, l.isPublic) FROM GameLobby l "
+            + "WHERE l.status = com.pokemon.game.util.Enums.GameStatus.FINISHED AND l.finishedAt < :cutoff "
+            + "AND (l.finishedAt > :afterFinishedAt OR (l.finishedAt = :afterFinishedAt AND l.id > :afterId)) "
+            + "ORDER BY l.finishedAt, l.id")
+    List<StaleLobbyDTO> findFinishedAfter(@Param("cutoff") LocalDateTime cutoff,
+            @Param("afterFinishedAt") LocalDateTime afterFinishedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM GameLobby l WHERE l.id IN :ids "
+            + "AND l.status = com.pokemon.game.util.Enums.GameStatus.FINISHED AND l.finishedAt < :cutoff")
+    List<GameLobby> lockFinishedByIds(@Param("ids") Collection<UUID> ids,
+            @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,15 @@
+package com.pokemon.game.repository;
+
+import com.pokemon.game.model.MatchHistory;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ *
+ * Luis
+ */
+@Repository
+public interface MatchHistoryRepository extends JpaRepository<MatchHistory, UUID> {
+
+}
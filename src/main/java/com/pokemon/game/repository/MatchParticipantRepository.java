@@ -0,0 +1,34 @@
+package com.pokemon.game.repository;
+
+import com.pokemon.game.dto.MatchSummaryDTO;
+import com.pokemon.game.model.MatchParticipant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ *
+ * Luis
+ */
+@Repository
+public interface MatchParticipantRepository extends JpaRepository<MatchParticipant, MatchParticipant.Key> {
+
+    // Paginación por clave (finished_at, match_id) descendente sobre el índice del jugador
+    @Query("SELECT new com.pokemon.game.dto.MatchSummaryDTO(p.matchId, o.username, p.won, m.turnCount, m.durationMs, p.finishedAt) "
+            + "FROM MatchParticipant p JOIN MatchHistory m ON m.id = p.matchId "
+            + "LEFT JOIN MatchParticipant o ON o.matchId = p.matchId AND o.playerId <> p.playerId "
+            + "WHERE p.playerId = :playerId "
+            + "AND (p.finishedAt < :beforeFinishedAt OR (p.finishedAt = :beforeFinishedAt AND p.matchId < :beforeId)) "
+            + "ORDER BY p.finishedAt DESC, p.matchId DESC")
+    List<MatchSummaryDTO> findPageBefore(@Param("playerId") Long playerId,
+            @Param("beforeFinishedAt") LocalDateTime beforeFinishedAt,
+            @Param("beforeId") UUID beforeId,
+            Limit limit);
+
+    List<MatchParticipant> findByMatchIdOrderBySide(UUID matchId);
+}
@@ -0,0 +1,14 @@
+package com.pokemon.game.repository;
+
+import com.pokemon.game.model.PlayerRating;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ *
+ * Luis
+ */
+@Repository
+public interface PlayerRatingRepository extends JpaRepository<PlayerRating, Long> {
+
+}
@@ -2,8 +2,15 @@ package com.pokemon.game.repository;
 
 import com.pokemon.game.model.Player;
 import com.pokemon.game.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,4 +21,19 @@ import org.springframework.stereotype.Repository;
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     Optional<Player> findByUser(User user);
+
+    // Equipo con sus movimientos en una consulta (team es un Set ordenado, sin duplicados por el join)
+    @EntityGraph(attributePaths = {"team", "team.moves"})
+    Optional<Player> findWithTeamByUser(User user);
+
+    // Con el usuario: estos Player se usan fuera de la sesión durante toda la batalla
+    @EntityGraph(attributePaths = {"user", "team", "team.moves"})
+    List<Player> findWithTeamByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Player p WHERE p.user.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("UPDATE Player p SET p.gameLobby = NULL WHERE p.gameLobby.id IN :lobbyIds")
+    int detachFromLobbies(@Param("lobbyIds") Collection<UUID> lobbyIds);
 }
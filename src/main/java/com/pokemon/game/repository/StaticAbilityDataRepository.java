@@ -1,8 +1,13 @@
 package com.pokemon.game.repository;
 
 import com.pokemon.game.model.StaticAbilityData;
+import java.util.List;
 import java.util.Optional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,5 +17,10 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StaticAbilityDataRepository extends JpaRepository<StaticAbilityData, Long> {
 
+    // Resultado en la caché de consultas; las entidades, en la de segundo nivel
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<StaticAbilityData> findByName(String name);
+
+    @Query("SELECT a.id, a.name, a.description FROM StaticAbilityData a ORDER BY a.id")
+    List<Object[]> findAllAbilityRows();
 }
@@ -1,8 +1,14 @@
 package com.pokemon.game.repository;
 
 import com.pokemon.game.model.StaticMoveData;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,5 +18,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StaticMoveDataRepository extends JpaRepository<StaticMoveData, Long> {
 
+    // Resultado en la caché de consultas; las entidades, en la de segundo nivel
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<StaticMoveData> findByName(String name);
+
+    List<StaticMoveData> findByNameIn(Collection<String> names);
+
+    @Query("SELECT m.id, m.name, m.power, m.accuracy, m.pp, m.priority, m.damageClass, m.type.id FROM StaticMoveData m ORDER BY m.id")
+    List<Object[]> findAllMoveRows();
 }
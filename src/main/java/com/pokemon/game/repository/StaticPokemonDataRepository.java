@@ -1,8 +1,14 @@
 package com.pokemon.game.repository;
 
 import com.pokemon.game.model.StaticPokemonData;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,5 +18,21 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StaticPokemonDataRepository extends JpaRepository<StaticPokemonData, Long> {
 
+    // Resultado en la caché de consultas; las entidades, en la de segundo nivel
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<StaticPokemonData> findByName(String name);
+
+    List<StaticPokemonData> findByNameIn(Collection<String> names);
+
+    @Query("SELECT p.id, p.name, p.baseHp, p.baseAttack, p.baseDefense, p.baseSpecialAttack, p.baseSpecialDefense, p.baseSpeed FROM StaticPokemonData p ORDER BY p.id")
+    List<Object[]> findAllStatRows();
+
+    @Query("SELECT p.id, t.id FROM StaticPokemonData p JOIN p.types t")
+    List<Object[]> findAllTypePairs();
+
+    @Query("SELECT p.id, a.id FROM StaticPokemonData p JOIN p.abilities a")
+    List<Object[]> findAllAbilityPairs();
+
+    @Query("SELECT p.id, m.id FROM StaticPokemonData p JOIN p.moves m")
+    List<Object[]> findAllLearnsetPairs();
 }
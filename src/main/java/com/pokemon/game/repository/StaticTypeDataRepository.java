@@ -1,8 +1,13 @@
 package com.pokemon.game.repository;
 
 import com.pokemon.game.model.StaticTypeData;
+import java.util.List;
 import java.util.Optional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,5 +17,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StaticTypeDataRepository extends JpaRepository<StaticTypeData, Long> {
 
+    // Resultado en la caché de consultas; las entidades, en la de segundo nivel
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<StaticTypeData> findByName(String name);
+
+    @Query("SELECT t.id, t.name FROM StaticTypeData t ORDER BY t.id")
+    List<Object[]> findAllIdAndName();
+
+    // (tipo atacante, tipo defensor, factor en %) de type_efficacy, que no tiene entidad
+    @Query(value = "SELECT attacking_type_id, defending_type_id, factor FROM type_efficacy", nativeQuery = true)
+    List<Object[]> findAllEfficacyRows();
 }
@@ -0,0 +1,24 @@
+package com.pokemon.game.repository;
+
+import com.pokemon.game.model.TeamPreset;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ *
+ * @author Luis
+ */
+@Repository
+public interface TeamPresetRepository extends JpaRepository<TeamPreset, Long> {
+
+    @EntityGraph(attributePaths = {"members", "moves"})
+    List<TeamPreset> findByPlayerIdOrderByName(Long playerId);
+
+    @EntityGraph(attributePaths = {"player", "members", "moves"})
+    Optional<TeamPreset> findWithMembersById(Long id);
+
+    boolean existsByPlayerIdAndName(Long playerId, String name);
+}
@@ -0,0 +1,15 @@
+package com.pokemon.game.request;
+
+import java.util.List;
+
+/**
+ *
+ * @author Luis
+ */
+public record TeamPresetRequest(
+        String name,
+        List<String> pokemonNames,
+        List<List<String>> moveSets // Movimientos de cada Pokémon, en el mismo orden que pokemonNames
+) {
+
+}
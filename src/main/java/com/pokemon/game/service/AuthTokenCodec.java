@@ -0,0 +1,110 @@
+package com.pokemon.game.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Tokens de sesión firmados con HMAC-SHA256 para el modo sin estado:
+ * {@code base64url(usuario).roles.emitido.caduca.base64url(firma)}. Llevan los
+ * roles dentro, así que verificarlos no toca la BD; cualquier nodo con el
+ * mismo secreto los acepta.
+ *
+ * Luis
+ */
+public class AuthTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public record IssuedToken(String token, Instant expiresAt) {
+
+    }
+
+    public AuthTokenCodec(byte[] secret, Duration ttl, Clock clock) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("El secreto de los tokens debe tener al menos 256 bits.");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public IssuedToken issue(Authentication authentication) {
+        Instant issuedAt = clock.instant();
+        Instant expiresAt = issuedAt.plus(ttl);
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        String body = ENCODER.encodeToString(authentication.getName().getBytes(StandardCharsets.UTF_8))
+                + "." + roles + "." + issuedAt.getEpochSecond() + "." + expiresAt.getEpochSecond();
+        return new IssuedToken(body + "." + ENCODER.encodeToString(sign(body)), expiresAt);
+    }
+
+    /**
+     * Autenticación del token si la firma es válida y no ha caducado.
+     */
+    public Optional<Authentication> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart < 0) {
+            return Optional.empty();
+        }
+        String body = token.substring(0, signatureStart);
+        String[] parts = body.split("\\.", -1);
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(signature, sign(body))) {
+                return Optional.empty();
+            }
+            if (clock.instant().getEpochSecond() >= Long.parseLong(parts[3])) {
+                return Optional.empty();
+            }
+
+            String username = new String(DECODER.decode(parts[0]), StandardCharsets.UTF_8);
+            List<GrantedAuthority> authorities = parts[1].isEmpty()
+                    ? List.of()
+                    : Arrays.stream(parts[1].split(","))
+                            .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                            .toList();
+            return Optional.of(UsernamePasswordAuthenticationToken.authenticated(username, null, authorities));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(body.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo firmar el token.", e);
+        }
+    }
+}
@@ -5,10 +5,12 @@ import com.pokemon.game.model.Player;
 import com.pokemon.game.model.PlayerPokemon;
 import com.pokemon.game.model.PokemonMove;
 import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.TeamTemplate;
 import com.pokemon.game.repository.PlayerPokemonRepository;
-import com.pokemon.game.repository.StaticMoveDataRepository;
 import lombok.Getter;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,37 +26,65 @@ public class BattleService {
     private final UUID lobbyId;
     private final Map<Long, PlayerPokemon> activePokemon;
     private final Map<Long, Player> playersMap;
+    private final Map<Long, List<PlayerPokemon>> teams;
+
+    // Orden de los jugadores al empezar: el índice es el lado en el registro de turnos
+    private final List<Long> sides;
+    private final Instant startedAt;
+    private final MatchTurnLog turnLog;
 
     private Long currentTurnPlayerId;
     private boolean isFinished;
     private Long winnerId;
 
     private final IDamageCalculatorService damageCalculatorService;
-    private final StaticMoveDataRepository moveRepository;
+    private final StaticDataRegistry staticDataRegistry;
     private final PlayerPokemonRepository playerPokemonRepository;
 
     public BattleService(UUID lobbyId,
             List<Player> players,
             IDamageCalculatorService damageCalculatorService,
-            StaticMoveDataRepository moveRepository,
+            StaticDataRegistry staticDataRegistry,
+            PlayerPokemonRepository playerPokemonRepository) {
+        this(lobbyId, players, Map.of(), damageCalculatorService, staticDataRegistry, playerPokemonRepository);
+    }
+
+    /**
+     * Los jugadores con plantilla combaten con una instancia en memoria del equipo
+     * guardado; el resto usa su equipo persistido.
+     */
+    public BattleService(UUID lobbyId,
+            List<Player> players,
+            Map<Long, TeamTemplate> templates,
+            IDamageCalculatorService damageCalculatorService,
+            StaticDataRegistry staticDataRegistry,
             PlayerPokemonRepository playerPokemonRepository) {
         this.lobbyId = lobbyId;
         this.damageCalculatorService = damageCalculatorService;
-        this.moveRepository = moveRepository;
+        this.staticDataRegistry = staticDataRegistry;
         this.playerPokemonRepository = playerPokemonRepository;
 
         this.activePokemon = new ConcurrentHashMap<>();
         this.playersMap = new ConcurrentHashMap<>();
+        this.teams = new ConcurrentHashMap<>();
+        this.sides = new ArrayList<>(players.size());
+        this.startedAt = Instant.now();
+        this.turnLog = new MatchTurnLog();
         this.isFinished = false;
 
-        initializeBattle(players);
+        initializeBattle(players, templates);
     }
 
-    private void initializeBattle(List<Player> players) {
+    private void initializeBattle(List<Player> players, Map<Long, TeamTemplate> templates) {
         for (Player player : players) {
             playersMap.put(player.getId(), player);
+            sides.add(player.getId());
+
+            TeamTemplate template = templates.get(player.getId());
+            List<PlayerPokemon> team = template != null ? template.instantiate(player) : List.copyOf(player.getTeam());
+            teams.put(player.getId(), team);
 
-            PlayerPokemon firstPokemon = player.getTeam().stream()
+            PlayerPokemon firstPokemon = team.stream()
                     .filter(p -> p.getCurrentHp() > 0)
                     .findFirst()
                     .orElseThrow(() -> new IllegalStateException("El jugador " + player.getUser().getUsername() + " no tiene Pokémon vivos."));
@@ -78,8 +108,11 @@ public class BattleService {
         Long opponentId = getOpponentId(actingPlayerId);
         PlayerPokemon defender = activePokemon.get(opponentId);
 
+        StaticDataSnapshot data = staticDataRegistry.current();
+        int requestedMove = data.moveOrdinal(moveName);
+
         PokemonMove selectedMoveInstance = attacker.getMoves().stream()
-                .filter(m -> m.getStaticMoveData().getName().equalsIgnoreCase(moveName))
+                .filter(m -> requestedMove >= 0 && data.moveOrdinalById(m.getStaticMoveData().getId()) == requestedMove)
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("El Pokémon activo no conoce el movimiento: " + moveName));
 
@@ -96,16 +129,20 @@ public class BattleService {
         int newHp = Math.max(0, oldHp - damage);
         defender.setCurrentHp(newHp);
 
-        playerPokemonRepository.save(defender);
-        playerPokemonRepository.save(attacker);
+        persistIfStored(defender);
+        persistIfStored(attacker);
+
+        turnLog.append(new MatchTurnLog.Turn(sides.indexOf(actingPlayerId),
+                attacker.getSlot(), defender.getSlot(), staticData.getId(), damage, newHp));
 
+        String moveDisplayName = data.moveName(requestedMove);
         String message = String.format("¡%s usó %s y causó %d de daño!",
-                attacker.getBasePokemon().getName(),
-                staticData.getName(),
+                speciesName(data, attacker),
+                moveDisplayName,
                 damage);
 
         if (newHp == 0) {
-            message += " ¡" + defender.getBasePokemon().getName() + " se debilitó!";
+            message += " ¡" + speciesName(data, defender) + " se debilitó!";
 
             checkWinCondition(actingPlayerId);
         }
@@ -118,7 +155,7 @@ public class BattleService {
 
         return new BattleUpdatePayload(
                 playersMap.get(actingPlayerId).getUser().getUsername(),
-                staticData.getName(),
+                moveDisplayName,
                 damage,
                 message,
                 defender.getId(),
@@ -140,7 +177,7 @@ public class BattleService {
         Long opponentId = getOpponentId(potentialWinnerId);
         Player opponent = playersMap.get(opponentId);
 
-        boolean hasAlivePokemon = opponent.getTeam().stream()
+        boolean hasAlivePokemon = teams.get(opponent.getId()).stream()
                 .anyMatch(p -> p.getCurrentHp() > 0);
 
         if (!hasAlivePokemon) {
@@ -148,4 +185,15 @@ public class BattleService {
             this.winnerId = potentialWinnerId;
         }
     }
+
+    private String speciesName(StaticDataSnapshot data, PlayerPokemon pokemon) {
+        int species = data.speciesOrdinalById(pokemon.getBasePokemon().getId());
+        return species >= 0 ? data.speciesName(species) : pokemon.getBasePokemon().getName();
+    }
+
+    private void persistIfStored(PlayerPokemon pokemon) {
+        if (!TeamTemplate.isBattleInstance(pokemon)) {
+            playerPokemonRepository.save(pokemon);
+        }
+    }
 }
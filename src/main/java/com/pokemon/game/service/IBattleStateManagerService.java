@@ -1,7 +1,9 @@
 package com.pokemon.game.service;
 
 import com.pokemon.game.model.Player;
+import com.pokemon.game.model.TeamTemplate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -12,6 +14,8 @@ public interface IBattleStateManagerService {
 
     BattleService createBattle(UUID lobbyId, List<Player> players);
 
+    BattleService createBattle(UUID lobbyId, List<Player> players, Map<Long, TeamTemplate> templates);
+
     BattleService getBattle(UUID lobbyId);
 
     void removeBattle(UUID lobbyId);
@@ -0,0 +1,21 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.dto.LeaderboardEntryDTO;
+import com.pokemon.game.model.Player;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ *
+ * Luis
+ */
+public interface ILeaderboardService {
+
+    void recordResult(Player winner, Player loser);
+
+    List<LeaderboardEntryDTO> getTop(int offset, int limit);
+
+    Optional<LeaderboardEntryDTO> getMyStanding();
+
+    int flush();
+}
@@ -0,0 +1,19 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.dto.MatchDetailDTO;
+import com.pokemon.game.dto.MatchHistoryPageDTO;
+import com.pokemon.game.model.GameLobby;
+import java.util.UUID;
+
+/**
+ *
+ * Luis
+ */
+public interface IMatchHistoryService {
+
+    void recordMatch(GameLobby lobby, BattleService battle);
+
+    MatchHistoryPageDTO getMyHistory(String cursor, int limit);
+
+    MatchDetailDTO getMatch(UUID matchId);
+}
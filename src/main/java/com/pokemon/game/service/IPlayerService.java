@@ -2,6 +2,8 @@ package com.pokemon.game.service;
 
 import com.pokemon.game.model.Player;
 import com.pokemon.game.model.User;
+import java.util.Collection;
+import java.util.List;
 
 /**
  *
@@ -13,5 +15,9 @@ public interface IPlayerService {
 
     Player getCurrentPlayer();
 
+    Player getCurrentPlayerWithTeam();
+
+    List<Player> loadTeams(Collection<Long> playerIds);
+
     Player findOrCreatePlayerForUser(User user);
 }
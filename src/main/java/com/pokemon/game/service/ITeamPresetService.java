@@ -0,0 +1,21 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.dto.TeamPresetDTO;
+import com.pokemon.game.model.TeamTemplate;
+import com.pokemon.game.request.TeamPresetRequest;
+import java.util.List;
+
+/**
+ *
+ * Luis
+ */
+public interface ITeamPresetService {
+
+    TeamPresetDTO savePreset(TeamPresetRequest request);
+
+    List<TeamPresetDTO> getMyPresets();
+
+    void deletePreset(Long presetId);
+
+    TeamTemplate getTemplate(Long presetId, Long playerId);
+}
@@ -2,9 +2,12 @@ package com.pokemon.game.service;
 
 import com.pokemon.game.dto.PlayerPokemonDTO;
 import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.dto.TeamValidationResultDTO;
 import java.util.List;
 
 public interface ITeamService {
 
     List<PlayerPokemonDTO> createPlayerTeam(TeamSetupDTO request);
+
+    List<TeamValidationResultDTO> validateTeams(List<TeamSetupDTO> teams);
 }
@@ -0,0 +1,149 @@
+package com.pokemon.game.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pokemon.game.model.Role;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Identidad por nombre de usuario (credenciales, roles e ID de jugador) en una
+ * caché acotada con TTL. Autenticar o resolver el usuario actual en cada
+ * mensaje STOMP deja de consultar users, user_roles y players.
+ *
+ * Guarda copias inmutables, nunca entidades gestionadas: cada llamada recibe
+ * su propio User desacoplado. Se invalida al cambiar la contraseña
+ * ({@link UserDetailsServiceImpl#updatePassword}) o al crear el jugador, y un
+ * ID de jugador ausente se vuelve a buscar en {@link #playerId(String)}; para
+ * un cambio de roles hay que llamar a {@link #invalidate(String)}, y en todo
+ * caso el TTL acota cuánto tarda en verse.
+ *
+ * Métricas de Micrometer con cache=identity (cache.gets con result=hit|miss,
+ * cache.evictions, cache.size).
+ *
+ * Luis
+ */
+@Component
+@Slf4j
+public class IdentityCache {
+
+    public record Identity(Long userId, String username, String email, String passwordHash,
+            List<Role> roles, Long playerId) {
+
+        public User toUser() {
+            Set<Role> roleCopies = new HashSet<>();
+            roles.forEach(role -> roleCopies.add(Role.builder().id(role.getId()).name(role.getName()).build()));
+            return User.builder()
+                    .id(userId)
+                    .username(username)
+                    .email(email)
+                    .password(passwordHash)
+                    .roles(roleCopies)
+                    .build();
+        }
+
+        public UserDetails toUserDetails() {
+            return new org.springframework.security.core.userdetails.User(
+                    username,
+                    passwordHash,
+                    roles.stream().map(role -> new SimpleGrantedAuthority(role.getName())).toList()
+            );
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final PlayerRepository playerRepository;
+    private final Cache<String, Identity> cache;
+
+    public IdentityCache(UserRepository userRepository,
+            PlayerRepository playerRepository,
+            MeterRegistry meterRegistry,
+            @Value("${game.identity-cache.maximum-size:10000}") long maximumSize,
+            @Value("${game.identity-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.playerRepository = playerRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "identity");
+    }
+
+    public Identity get(String username) {
+        Identity identity = cache.get(username, this::load);
+        if (identity == null) {
+            throw new UsernameNotFoundException("No se encontró el usuario con nombre: " + username);
+        }
+        return identity;
+    }
+
+    /**
+     * ID de jugador del usuario, o null si aún no tiene. Un null en caché no se
+     * da por bueno: el jugador puede haberse creado en otro nodo después de
+     * cargar la identidad, así que se vuelve a consultar y, si ya existe, se
+     * completa la entrada.
+     */
+    public Long playerId(String username) {
+        Identity identity = get(username);
+        if (identity.playerId() != null) {
+            return identity.playerId();
+        }
+        Long playerId = playerRepository.findIdByUsername(username).orElse(null);
+        if (playerId != null) {
+            cache.asMap().replace(username, identity, withPlayerId(identity, playerId));
+        }
+        return playerId;
+    }
+
+    /**
+     * Invalida ya y, si hay transacción, otra vez tras el commit: una lectura
+     * concurrente no puede dejar en caché el estado anterior al cambio.
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    private static Identity withPlayerId(Identity identity, Long playerId) {
+        return new Identity(identity.userId(), identity.username(), identity.email(),
+                identity.passwordHash(), identity.roles(), playerId);
+    }
+
+    // Los nombres que no existen no se guardan: el registro posterior no tiene que invalidar nada
+    private Identity load(String username) {
+        return userRepository.findWithRolesByUsername(username)
+                .map(user -> new Identity(
+                        user.getId(),
+                        user.getUsername(),
+                        user.getEmail(),
+                        user.getPassword(),
+                        user.getRoles().stream()
+                                .map(role -> Role.builder().id(role.getId()).name(role.getName()).build())
+                                .toList(),
+                        playerRepository.findIdByUsername(username).orElse(null)))
+                .orElse(null);
+    }
+}
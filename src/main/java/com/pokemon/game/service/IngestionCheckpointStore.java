@@ -0,0 +1,41 @@
+package com.pokemon.game.service;
+
+import java.util.List;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda hasta qué ID upstream se ha confirmado cada etapa de ingesta. Se
+ * escribe en la misma transacción que la página, así que tras un fallo la
+ * etapa se reanuda justo después de la última página guardada.
+ *
+ * Luis
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestionCheckpointStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OptionalLong lastCommittedId(PokeApiIngestionService.Stage stage) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT last_id FROM ingestion_checkpoints WHERE stage = ?", Long.class, stage.name());
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+
+    public boolean isInProgress(PokeApiIngestionService.Stage stage) {
+        return lastCommittedId(stage).isPresent();
+    }
+
+    public void commit(PokeApiIngestionService.Stage stage, long lastId) {
+        jdbcTemplate.update("INSERT INTO ingestion_checkpoints (stage, last_id, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP(6)) "
+                + "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)",
+                stage.name(), lastId);
+    }
+
+    public void complete(PokeApiIngestionService.Stage stage) {
+        jdbcTemplate.update("DELETE FROM ingestion_checkpoints WHERE stage = ?", stage.name());
+    }
+}
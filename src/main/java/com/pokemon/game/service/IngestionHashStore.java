@@ -0,0 +1,52 @@
+package com.pokemon.game.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hashes de contenido de la ingesta: uno por registro estático y, para las
+ * relaciones entre tipos (que no tienen registros propios), uno de la etapa
+ * completa.
+ *
+ * Luis
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestionHashStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> recordHashes(PokeApiIngestionService.Stage stage) {
+        Map<String, Long> hashes = new HashMap<>();
+        jdbcTemplate.query("SELECT record_key, content_hash FROM static_data_hashes WHERE stage = ?",
+                rs -> {
+                    hashes.put(rs.getString(1), rs.getLong(2));
+                }, stage.name());
+        return hashes;
+    }
+
+    public void saveRecordHashes(PokeApiIngestionService.Stage stage, Map<String, Long> hashes) {
+        List<Object[]> rows = new ArrayList<>(hashes.size());
+        hashes.forEach((key, hash) -> rows.add(new Object[]{stage.name(), key, hash}));
+        jdbcTemplate.batchUpdate("INSERT INTO static_data_hashes (stage, record_key, content_hash) VALUES (?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash)", rows);
+    }
+
+    public OptionalLong stageHash(PokeApiIngestionService.Stage stage) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT content_hash FROM ingestion_stage_hashes WHERE stage = ?", Long.class, stage.name());
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+
+    public void saveStageHash(PokeApiIngestionService.Stage stage, long hash) {
+        jdbcTemplate.update("INSERT INTO ingestion_stage_hashes (stage, content_hash, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP(6)) "
+                + "ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), updated_at = VALUES(updated_at)",
+                stage.name(), hash);
+    }
+}
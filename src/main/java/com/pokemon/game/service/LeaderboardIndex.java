@@ -0,0 +1,217 @@
+package com.pokemon.game.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Clasificación en memoria: skip list indexable ordenada por rating
+ * descendente y, a igualdad, por ID de jugador. Cada enlace guarda cuántas
+ * posiciones salta (span), así que la posición de un jugador y el acceso por
+ * posición cuestan O(log n) igual que insertar o borrar.
+ *
+ * Luis
+ */
+public class LeaderboardIndex {
+
+    private static final int MAX_LEVEL = 32;
+
+    public record Standing(long playerId, String username, int rating, int wins, int losses) {
+
+    }
+
+    public record Ranked(int rank, Standing standing) {
+
+    }
+
+    private static final class Node {
+
+        final Standing standing;
+        final Node[] next;
+        final int[] span;
+
+        Node(Standing standing, int level) {
+            this.standing = standing;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(null, MAX_LEVEL);
+    private final Map<Long, Standing> byPlayer = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int level = 1;
+    private int size;
+
+    public void put(Standing standing) {
+        lock.writeLock().lock();
+        try {
+            Standing previous = byPlayer.put(standing.playerId(), standing);
+            if (previous != null) {
+                delete(previous);
+            }
+            insert(standing);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Standing> get(long playerId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byPlayer.get(playerId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posición (desde 1) del jugador, o vacío si no tiene rating.
+     */
+    public Optional<Ranked> rankOf(long playerId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = byPlayer.get(playerId);
+            if (standing == null) {
+                return Optional.empty();
+            }
+            int rank = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && compare(x.next[i].standing, standing) <= 0) {
+                    rank += x.span[i];
+                    x = x.next[i];
+                }
+                if (x.standing != null && x.standing.playerId() == playerId) {
+                    return Optional.of(new Ranked(rank, standing));
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hasta {@code limit} jugadores a partir de la posición {@code offset + 1}.
+     */
+    public List<Ranked> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Ranked> page = new ArrayList<>(Math.min(limit, Math.max(0, size - offset)));
+            if (offset >= size || limit <= 0) {
+                return page;
+            }
+            int target = offset + 1;
+            int traversed = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && traversed + x.span[i] <= target) {
+                    traversed += x.span[i];
+                    x = x.next[i];
+                }
+            }
+            for (int rank = target; x != null && page.size() < limit; rank++, x = x.next[0]) {
+                page.add(new Ranked(rank, x.standing));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Standing standing) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i].standing, standing) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(standing, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(Standing standing) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i].standing, standing) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.next[0];
+        if (target == null || target.standing.playerId() != standing.playerId()) {
+            throw new IllegalStateException("Clasificación inconsistente para el jugador " + standing.playerId());
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    // Mejor rating primero; a igualdad, el ID más bajo
+    private static int compare(Standing a, Standing b) {
+        int byRating = Integer.compare(b.rating(), a.rating());
+        return byRating != 0 ? byRating : Long.compare(a.playerId(), b.playerId());
+    }
+
+    // Probabilidad 1/4 por nivel, como en los sorted sets de Redis
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -0,0 +1,95 @@
+package com.pokemon.game.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Contador en memoria de plazas ocupadas por lobby. Las plazas se reclaman con
+ * compare-and-set, de modo que dos uniones concurrentes en el mismo nodo nunca
+ * pueden superar la capacidad; la columna @Version de GameLobby cubre el resto.
+ *
+ * Una entrada sin uso durante {@link #IDLE_EXPIRY} se descarta: los lobbies
+ * llenos que nadie inicia o las partidas abandonadas no pasan por finishGame
+ * ni por el reaper. Si el lobby vuelve a usarse, el contador se rehace desde
+ * los jugadores persistidos.
+ *
+ * Luis
+ */
+@Component
+public class LobbySlotRegistry {
+
+    public static final int LOBBY_CAPACITY = 2;
+    public static final Duration IDLE_EXPIRY = Duration.ofHours(2);
+    private static final int RETIRED = Integer.MAX_VALUE;
+
+    private final Map<UUID, AtomicInteger> occupiedSlots;
+
+    public LobbySlotRegistry() {
+        this(Ticker.systemTicker());
+    }
+
+    public LobbySlotRegistry(Ticker ticker) {
+        this.occupiedSlots = Caffeine.newBuilder()
+                .expireAfterAccess(IDLE_EXPIRY)
+                .ticker(ticker)
+                .<UUID, AtomicInteger>build()
+                .asMap();
+    }
+
+    public boolean tryClaim(UUID lobbyId, int persistedPlayers) {
+        AtomicInteger slots = occupiedSlots.computeIfAbsent(lobbyId, id -> new AtomicInteger(persistedPlayers));
+
+        while (true) {
+            int current = slots.get();
+            if (current >= LOBBY_CAPACITY) {
+                return false;
+            }
+            if (slots.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(UUID lobbyId) {
+        AtomicInteger slots = occupiedSlots.get(lobbyId);
+        if (slots != null) {
+            slots.updateAndGet(current -> (current > 0 && current <= LOBBY_CAPACITY) ? current - 1 : current);
+        }
+    }
+
+    /**
+     * Devuelve la plaza si la transacción en curso no llega a confirmarse
+     * (por ejemplo, por un conflicto de versión al hacer commit).
+     */
+    public void releaseOnRollback(UUID lobbyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(lobbyId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Cierra el lobby a nuevas uniones en este nodo antes de eliminarlo.
+     */
+    public void retire(UUID lobbyId) {
+        occupiedSlots.computeIfAbsent(lobbyId, id -> new AtomicInteger()).set(RETIRED);
+    }
+
+    public void forget(UUID lobbyId) {
+        occupiedSlots.remove(lobbyId);
+    }
+}
@@ -0,0 +1,125 @@
+package com.pokemon.game.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Registro de turnos de una batalla en formato compacto. Cada turno ocupa una
+ * cabecera de un byte (lado que actúa, slot atacante y slot defensor) seguida
+ * de tres varints: ID del movimiento, daño y PS del defensor tras el golpe.
+ * Al cerrar la partida el buffer se comprime con Deflate.
+ *
+ * Luis
+ */
+public final class MatchTurnLog {
+
+    private static final int MAX_SLOT = 7;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    private int turnCount;
+
+    public record Turn(int side, int attackerSlot, int defenderSlot, long moveId, int damage, int defenderHpAfter) {
+
+    }
+
+    public synchronized void append(Turn turn) {
+        if (turn.side() < 0 || turn.side() > 1) {
+            throw new IllegalArgumentException("Lado de batalla no válido: " + turn.side());
+        }
+        if (turn.attackerSlot() < 0 || turn.attackerSlot() > MAX_SLOT
+                || turn.defenderSlot() < 0 || turn.defenderSlot() > MAX_SLOT) {
+            throw new IllegalArgumentException("Slot fuera de rango en el registro de turnos.");
+        }
+
+        buffer.write((turn.side() << 6) | (turn.attackerSlot() << 3) | turn.defenderSlot());
+        writeVarLong(turn.moveId());
+        writeVarLong(turn.damage());
+        writeVarLong(turn.defenderHpAfter());
+        turnCount++;
+    }
+
+    public synchronized int turnCount() {
+        return turnCount;
+    }
+
+    public synchronized byte[] compress() {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(buffer.toByteArray());
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, buffer.size() / 2));
+            byte[] chunk = new byte[512];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static List<Turn> decompress(byte[] compressed) {
+        byte[] raw = inflate(compressed);
+        List<Turn> turns = new ArrayList<>();
+        int[] position = {0};
+        while (position[0] < raw.length) {
+            int header = raw[position[0]++] & 0xFF;
+            long moveId = readVarLong(raw, position);
+            int damage = (int) readVarLong(raw, position);
+            int hpAfter = (int) readVarLong(raw, position);
+            turns.add(new Turn(header >>> 6, (header >>> 3) & MAX_SLOT, header & MAX_SLOT, moveId, damage, hpAfter));
+        }
+        return turns;
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] chunk = new byte[512];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Registro de turnos truncado.");
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Registro de turnos corrupto.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private void writeVarLong(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("El registro de turnos sólo admite valores no negativos: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.write((int) value);
+    }
+
+    private static long readVarLong(byte[] raw, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= raw.length) {
+                throw new IllegalArgumentException("Registro de turnos truncado.");
+            }
+            int b = raw[position[0]++] & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint demasiado largo en el registro de turnos.");
+    }
+}
@@ -0,0 +1,14 @@
+package com.pokemon.game.service;
+
+/**
+ * El pool de hashing de contraseñas no admite más trabajo: cola llena o
+ * espera agotada. La petición debe reintentarse más tarde (503).
+ *
+ * Luis
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pokemon.game.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool acotado y exclusivo para BCrypt. Con N hilos y una cola de tamaño fijo,
+ * una avalancha de logins ocupa como mucho N núcleos: lo que no cabe en la cola
+ * se rechaza al momento y lo que espera más de maxWait se abandona, en ambos
+ * casos con {@link PasswordHashingBusyException}.
+ *
+ * Métricas: auth.hashing.queue.wait (tiempo en cola), auth.hashing.duration
+ * (tiempo de CPU de BCrypt) con la etiqueta operation, auth.hashing.rejected
+ * y el gauge auth.hashing.queue.size.
+ *
+ * Luis
+ */
+@Slf4j
+public class PasswordHashingPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingPool(int threads, int queueCapacity, Duration maxWait, MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWait = maxWait;
+        this.meterRegistry = meterRegistry;
+        this.rejected = meterRegistry.counter("auth.hashing.rejected");
+        Gauge.builder("auth.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+
+        log.info("Pool de hashing de contraseñas: {} hilos, cola de {}, espera máxima {} ms.",
+                poolSize, queueCapacity, maxWait.toMillis());
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer queueWait = meterRegistry.timer("auth.hashing.queue.wait", "operation", operation);
+        Timer duration = meterRegistry.timer("auth.hashing.duration", "operation", operation);
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return duration.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Demasiados inicios de sesión simultáneos. Inténtalo en unos segundos.");
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingBusyException("El servidor está saturado de inicios de sesión. Inténtalo en unos segundos.");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Verificación de contraseña interrumpida.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error al calcular el hash de la contraseña.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
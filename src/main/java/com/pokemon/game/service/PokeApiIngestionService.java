@@ -4,24 +4,39 @@ import com.pokemon.game.model.StaticAbilityData;
 import com.pokemon.game.model.StaticMoveData;
 import com.pokemon.game.model.StaticPokemonData;
 import com.pokemon.game.model.StaticTypeData;
-import com.pokemon.game.repository.StaticAbilityDataRepository;
-import com.pokemon.game.repository.StaticMoveDataRepository;
-import com.pokemon.game.repository.StaticPokemonDataRepository;
-import com.pokemon.game.repository.StaticTypeDataRepository;
+import com.pokemon.game.service.StaticDataBulkLoader.TypeEfficacy;
+import com.pokemon.game.util.ContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,14 +46,131 @@ public class PokeApiIngestionService {
 
     private final WebClient pokeApiWebClient;
 
-    private final StaticPokemonDataRepository pokemonRepository;
-    private final StaticMoveDataRepository moveRepository;
-    private final StaticTypeDataRepository typeRepository;
-    private final StaticAbilityDataRepository abilityRepository;
+    // Las escrituras van por lotes JDBC, no por el persist de cada entidad
+    private final StaticDataBulkLoader bulkLoader;
 
-    private final Map<String, StaticTypeData> typeCache = new ConcurrentHashMap<>();
-    private final Map<String, StaticMoveData> moveCache = new ConcurrentHashMap<>();
-    private final Map<String, StaticAbilityData> abilityCache = new ConcurrentHashMap<>();
+    private final StaticDataRegistry staticDataRegistry;
+    private final IngestionCheckpointStore checkpointStore;
+    private final IngestionHashStore hashStore;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${game.static-data.ingestion.persist-threads:4}")
+    private int persistThreads;
+
+    @Value("${game.static-data.ingestion.page-size:100}")
+    private int pageSize;
+
+    @Value("${game.static-data.ingestion.fetch-concurrency:4}")
+    private int fetchConcurrency;
+
+    private TransactionTemplate transactionTemplate;
+
+    // Las escrituras JDBC son bloqueantes: se sacan de los hilos reactivos a un pool acotado
+    private Scheduler persistenceScheduler;
+
+    /**
+     * Etapas de la ingesta y sus dependencias. Las que no dependen entre sí
+     * se ejecutan a la vez.
+     */
+    public enum Stage {
+        TYPES,
+        ABILITIES,
+        MOVES(TYPES),
+        POKEMON(TYPES, ABILITIES, MOVES),
+        TYPE_RELATIONS(TYPES);
+
+        private final Set<Stage> dependencies;
+
+        Stage(Stage... dependencies) {
+            // Set.of y no EnumSet: durante la inicialización del enum sus constantes aún no están disponibles
+            this.dependencies = Set.of(dependencies);
+        }
+
+        public Set<Stage> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    /**
+     * Aviso al terminar una etapa, con los registros que escribió (0 si no
+     * había cambios).
+     */
+    @FunctionalInterface
+    public interface StageListener {
+
+        void completed(Stage stage, Duration elapsed, int written);
+    }
+
+    @PostConstruct
+    void initScheduler() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        persistenceScheduler = Schedulers.newBoundedElastic(persistThreads, Integer.MAX_VALUE, "static-data-persist");
+    }
+
+    @PreDestroy
+    void disposeScheduler() {
+        persistenceScheduler.dispose();
+    }
+
+    /**
+     * Ejecuta las etapas pedidas respetando el grafo de dependencias. Una etapa
+     * que no se pide se da por completada (sus datos ya están en la BD).
+     * Devuelve la duración de cada etapa ejecutada.
+     */
+    public Mono<Map<Stage, Duration>> ingest(Set<Stage> stages) {
+        return ingest(stages, (stage, elapsed, written) -> {
+        });
+    }
+
+    /**
+     * Igual que {@link #ingest(Set)}, avisando al terminar cada etapa.
+     */
+    public Mono<Map<Stage, Duration>> ingest(Set<Stage> stages, StageListener onStageCompleted) {
+        Map<Stage, Duration> timings = new ConcurrentHashMap<>();
+        Map<Stage, Mono<Void>> graph = new EnumMap<>(Stage.class);
+
+        for (Stage stage : Stage.values()) {
+            Mono<Void> dependencies = Mono.when(stage.getDependencies().stream().map(graph::get).toList());
+            Mono<Void> work = stages.contains(stage) ? timed(stage, timings, onStageCompleted) : Mono.empty();
+            graph.put(stage, dependencies.then(work).cache());
+        }
+
+        return Mono.when(graph.values()).thenReturn(timings);
+    }
+
+    private Mono<Integer> stageMono(Stage stage) {
+        return switch (stage) {
+            case TYPES -> ingestTypes();
+            case ABILITIES -> ingestAbilities();
+            case MOVES -> ingestMoves();
+            case POKEMON -> ingestPokemon();
+            case TYPE_RELATIONS -> ingestTypeDamageRelations();
+        };
+    }
+
+    private Mono<Void> timed(Stage stage, Map<Stage, Duration> timings, StageListener onStageCompleted) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return stageMono(stage).defaultIfEmpty(0).doOnNext(written -> {
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                timings.put(stage, elapsed);
+                log.info("Etapa de ingesta {} completada en {} ms.", stage, elapsed.toMillis());
+                onStageCompleted.completed(stage, elapsed, written);
+            }).then();
+        });
+    }
+
+    /**
+     * Guarda un lote en el pool de persistencia y recarga el registro para que
+     * las etapas dependientes resuelvan sus referencias.
+     */
+    private <T> Mono<List<T>> persist(List<T> batch, Function<List<T>, List<T>> writer) {
+        return Mono.fromCallable(() -> {
+            List<T> saved = writer.apply(batch);
+            staticDataRegistry.reload();
+            return saved;
+        }).subscribeOn(persistenceScheduler);
+    }
 
     public static class GqlPayload {
 
@@ -155,6 +287,27 @@ public class PokeApiIngestionService {
         public GqlNameWrapper type;
     }
 
+    public static class GqlAggregateResponse {
+
+        // La clave es "<tabla>_aggregate"
+        public Map<String, GqlAggregateWrapper> data;
+    }
+
+    public static class GqlAggregateWrapper {
+
+        public GqlAggregate aggregate;
+    }
+
+    public static class GqlAggregate {
+
+        public GqlMaxId max;
+    }
+
+    public static class GqlMaxId {
+
+        public Long id;
+    }
+
     public static class GqlAbilityLink {
 
         public GqlNameWrapper ability;
@@ -165,53 +318,180 @@ public class PokeApiIngestionService {
         public GqlNameWrapper move;
     }
 
-    @Transactional(readOnly = true)
-    public Mono<Void> loadTypeCache() {
-        return Mono.fromRunnable(() -> {
-            if (typeCache.isEmpty()) {
-                log.info("Cargando TypeCache desde la BD...");
-                typeCache.clear();
-                typeRepository.findAll().forEach(type -> typeCache.put(type.getName(), type));
-                log.info("TypeCache cargado con {} entradas.", typeCache.size());
-            }
-        });
+    /**
+     * Referencias a filas ya guardadas, construidas desde el registro estático:
+     * basta con el ID para enlazar las relaciones al persistir.
+     */
+    private StaticTypeData typeRef(StaticDataSnapshot data, String name) {
+        int type = data.typeOrdinal(name);
+        return type < 0 ? null : StaticTypeData.builder().id(data.typeId(type)).name(data.typeName(type)).build();
     }
 
-    @Transactional(readOnly = true)
-    public Mono<Void> loadAbilityCache() {
-        return Mono.fromRunnable(() -> {
-            if (abilityCache.isEmpty()) {
-                log.info("Cargando AbilityCache desde la BD...");
-                abilityCache.clear();
-                abilityRepository.findAll().forEach(ability -> abilityCache.put(ability.getName(), ability));
-                log.info("AbilityCache cargado con {} entradas.", abilityCache.size());
-            }
-        });
+    private StaticAbilityData abilityRef(StaticDataSnapshot data, String name) {
+        int ability = data.abilityOrdinal(name);
+        return ability < 0 ? null : StaticAbilityData.builder().id(data.abilityId(ability)).name(data.abilityName(ability)).build();
     }
 
-    @Transactional(readOnly = true)
-    public Mono<Void> loadMoveCache() {
-        return Mono.fromRunnable(() -> {
-            if (moveCache.isEmpty()) {
-                log.info("Cargando MoveCache desde la BD...");
-                moveCache.clear();
-                moveRepository.findAll().forEach(move -> moveCache.put(move.getName(), move));
-                log.info("MoveCache cargado con {} entradas.", moveCache.size());
-            }
-        });
+    private StaticMoveData moveRef(StaticDataSnapshot data, String name) {
+        int move = data.moveOrdinal(name);
+        return move < 0 ? null : StaticMoveData.builder().id(data.moveId(move)).name(data.moveName(move)).build();
     }
 
     private <T> Mono<T> executeGqlQuery(String query, Class<T> responseClass) {
+        return executeGqlQuery(query, null, responseClass);
+    }
+
+    private <T> Mono<T> executeGqlQuery(String query, Object variables, Class<T> responseClass) {
+        GqlPayload payload = new GqlPayload(query);
+        payload.variables = variables;
         return pokeApiWebClient.post()
                 .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(new GqlPayload(query))
+                .bodyValue(payload)
                 .retrieve()
                 .bodyToMono(responseClass)
                 .doOnError(e -> log.error("Error GQL: {}", e.getMessage()));
     }
 
+    /**
+     * Recorre la tabla upstream por rangos de ID consecutivos a partir del
+     * checkpoint y hasta el ID máximo upstream. Los IDs no son contiguos (hay
+     * saltos a 10001+), así que un rango vacío no marca el final. Se piden
+     * hasta fetchConcurrency rangos a la vez, pero las páginas se emiten en orden.
+     */
+    private <T> Flux<Page<T>> pages(Stage stage, String table, Function<IdRange, Mono<List<T>>> fetchRange) {
+        long start = checkpointStore.lastCommittedId(stage).orElse(0L);
+        if (start > 0) {
+            log.info("Reanudando etapa {} tras el ID {}.", stage, start);
+        }
+
+        return upstreamMaxId(table).flatMapMany(maxId -> {
+            log.info("Etapa {}: ID máximo upstream {}.", stage, maxId);
+            return Flux.<Long, Long>generate(() -> start, (after, sink) -> {
+                if (after >= maxId) {
+                    sink.complete();
+                } else {
+                    sink.next(after);
+                }
+                return after + pageSize;
+            })
+                    .map(after -> new IdRange(after + 1, Math.min(after + pageSize, maxId)))
+                    .flatMapSequential(range -> fetchRange.apply(range)
+                            .defaultIfEmpty(List.of())
+                            .map(items -> new Page<>(range, items)), fetchConcurrency, 1);
+        });
+    }
+
+    private Mono<Long> upstreamMaxId(String table) {
+        String query = """
+            query {
+              %s_aggregate {
+                aggregate {
+                  max {
+                    id
+                  }
+                }
+              }
+            }
+        """.formatted(table);
+        return executeGqlQuery(query, GqlAggregateResponse.class)
+                .map(response -> {
+                    GqlAggregateWrapper wrapper = response.data == null ? null : response.data.get(table + "_aggregate");
+                    if (wrapper == null || wrapper.aggregate == null || wrapper.aggregate.max == null
+                            || wrapper.aggregate.max.id == null) {
+                        return 0L;
+                    }
+                    return wrapper.aggregate.max.id;
+                })
+                .defaultIfEmpty(0L);
+    }
+
+    private record IdRange(long from, long to) {
+
+        Map<String, Object> variables() {
+            return Map.of("from", from, "to", to);
+        }
+    }
+
+    private record Page<T>(IdRange range, List<T> items) {
+
+    }
+
+    /**
+     * Cómo escribe una etapa sus registros: clave natural (el nombre), hash
+     * del contenido, ID existente en el registro estático y guardado del lote.
+     */
+    private record StageWriter<T>(
+            Function<T, String> key,
+            ToLongFunction<T> hash,
+            BiFunction<StaticDataSnapshot, String, Long> existingId,
+            BiConsumer<T, Long> idSetter,
+            Function<List<T>, List<T>> save) {
+
+    }
+
+    private static Long idOrNull(int ordinal, IntToLongFunction ids) {
+        return ordinal < 0 ? null : ids.applyAsLong(ordinal);
+    }
+
+    /**
+     * Guarda las páginas de una etapa de una en una. Sólo se escriben los
+     * registros nuevos o cuyo hash de contenido ha cambiado; cada página, sus
+     * hashes y su checkpoint se confirman en la misma transacción. Una página
+     * sin cambios no escribe nada. Devuelve cuántos registros se escribieron.
+     */
+    private <T> Mono<Integer> persistPages(Stage stage, Flux<Page<T>> pages, StageWriter<T> writer) {
+        AtomicInteger unchanged = new AtomicInteger();
+
+        return Mono.fromCallable(() -> hashStore.recordHashes(stage))
+                .subscribeOn(persistenceScheduler)
+                .flatMap(known -> pages
+                .concatMap(page -> Mono.fromCallable(() -> {
+                    StaticDataSnapshot data = staticDataRegistry.current();
+                    List<T> changed = new ArrayList<>();
+                    Map<String, Long> hashes = new HashMap<>();
+
+                    for (T item : page.items()) {
+                        if (item == null) {
+                            continue;
+                        }
+                        String key = writer.key().apply(item);
+                        long hash = writer.hash().applyAsLong(item);
+
+                        if (Objects.equals(known.get(key), hash)) {
+                            unchanged.incrementAndGet();
+                            continue;
+                        }
+                        Long id = writer.existingId().apply(data, key);
+                        if (id != null) {
+                            writer.idSetter().accept(item, id);
+                        }
+                        changed.add(item);
+                        hashes.put(key, hash);
+                    }
+
+                    if (changed.isEmpty()) {
+                        return 0;
+                    }
+                    return transactionTemplate.execute(status -> {
+                        writer.save().apply(changed);
+                        hashStore.saveRecordHashes(stage, hashes);
+                        checkpointStore.commit(stage, page.range().to());
+                        return changed.size();
+                    });
+                }).subscribeOn(persistenceScheduler))
+                .reduce(0, Integer::sum))
+                .flatMap(written -> Mono.fromCallable(() -> {
+                    checkpointStore.complete(stage);
+                    if (written > 0) {
+                        staticDataRegistry.reload();
+                    }
+                    log.info("Etapa {}: {} registros escritos, {} sin cambios.", stage, written, unchanged.get());
+                    return written;
+                }).subscribeOn(persistenceScheduler));
+    }
+
     @Transactional
-    public Mono<Void> ingestTypes() {
+    public Mono<Integer> ingestTypes() {
         log.info("Iniciando ingesta de Tipos (esquema v1beta2)...");
         String query = """
             query {
@@ -227,23 +507,24 @@ public class PokeApiIngestionService {
                     }
                     return Flux.fromIterable(response.data.type);
                 })
+                // Un tipo sólo tiene nombre: si ya existe, no hay nada que actualizar
+                .filter(gqlType -> staticDataRegistry.current().typeOrdinal(gqlType.name) < 0)
                 .map(gqlType -> StaticTypeData.builder().name(gqlType.name).build())
                 .collectList()
-                .doOnNext(typeRepository::saveAll)
-                .doOnNext(saved -> {
-                    log.info("Guardados {} tipos.", saved.size());
-                    typeCache.clear();
-                    saved.forEach(type -> typeCache.put(type.getName(), type));
-                })
-                .then();
+                .flatMap(types -> persistPages(Stage.TYPES, Flux.just(new Page<>(new IdRange(1, types.size()), types)), new StageWriter<>(
+                        StaticTypeData::getName,
+                        type -> ContentHash.of(type.getName()),
+                        (data, name) -> null,
+                        StaticTypeData::setId,
+                        bulkLoader::saveTypes)));
     }
 
     @Transactional
-    public Mono<Void> ingestAbilities() {
-        log.info("Iniciando ingesta de Habilidades (esquema v1beta2)...");
+    public Mono<Integer> ingestAbilities() {
+        log.info("Iniciando ingesta paginada de Habilidades (esquema v1beta2)...");
         String query = """
-            query {
-              ability(limit: 370) {
+            query ($from: Int!, $to: Int!) {
+              ability(where: {id: {_gte: $from, _lte: $to}}, order_by: {id: asc}) {
                 name
                 ability_effects: abilityeffecttexts(where: {language_id: {_eq: 9}}) {
                   effect
@@ -251,41 +532,40 @@ public class PokeApiIngestionService {
               }
             }
         """;
-        return executeGqlQuery(query, GqlAbilityDefinitionResponse.class)
-                .flatMapMany(response -> {
+        Flux<Page<StaticAbilityData>> pages = pages(Stage.ABILITIES, "ability", range -> executeGqlQuery(query, range.variables(), GqlAbilityDefinitionResponse.class)
+                .map(response -> {
                     if (response == null || response.data == null || response.data.ability == null) {
-                        return Flux.empty();
-                    }
-                    return Flux.fromIterable(response.data.ability);
-                })
-                .map(gqlAbility -> {
-                    String effect = (gqlAbility.ability_effects == null || gqlAbility.ability_effects.isEmpty())
-                            ? "No effect text." : gqlAbility.ability_effects.get(0).effect;
-                    if (effect.length() > 60000) {
-                        effect = effect.substring(0, 60000);
+                        return List.<StaticAbilityData>of();
                     }
+                    return response.data.ability.stream().map(this::toAbility).toList();
+                }));
+        return persistPages(Stage.ABILITIES, pages, new StageWriter<>(
+                StaticAbilityData::getName,
+                ability -> ContentHash.of(ability.getName(), ability.getDescription()),
+                (data, name) -> idOrNull(data.abilityOrdinal(name), data::abilityId),
+                StaticAbilityData::setId,
+                bulkLoader::saveAbilities));
+    }
 
-                    return StaticAbilityData.builder()
-                            .name(gqlAbility.name)
-                            .description(effect)
-                            .build();
-                })
-                .collectList()
-                .doOnNext(abilityRepository::saveAll)
-                .doOnNext(saved -> {
-                    log.info("Guardadas {} habilidades.", saved.size());
-                    abilityCache.clear();
-                    saved.forEach(a -> abilityCache.put(a.getName(), a));
-                })
-                .then();
+    private StaticAbilityData toAbility(GqlAbilityDefinition gqlAbility) {
+        String effect = (gqlAbility.ability_effects == null || gqlAbility.ability_effects.isEmpty())
+                ? "No effect text." : gqlAbility.ability_effects.get(0).effect;
+        if (effect.length() > 60000) {
+            effect = effect.substring(0, 60000);
+        }
+
+        return StaticAbilityData.builder()
+                .name(gqlAbility.name)
+                .description(effect)
+                .build();
     }
 
     @Transactional
-    public Mono<Void> ingestMoves() {
-        log.info("Iniciando ingesta de Movimientos (esquema v1beta2)...");
+    public Mono<Integer> ingestMoves() {
+        log.info("Iniciando ingesta paginada de Movimientos (esquema v1beta2)...");
         String query = """
-            query {
-              move(limit: 950) {
+            query ($from: Int!, $to: Int!) {
+              move(where: {id: {_gte: $from, _lte: $to}}, order_by: {id: asc}) {
                 name
                 power
                 accuracy
@@ -300,52 +580,53 @@ public class PokeApiIngestionService {
               }
             }
         """;
-        return executeGqlQuery(query, GqlMoveDefinitionResponse.class)
-                .flatMapMany(response -> {
+        Flux<Page<StaticMoveData>> pages = pages(Stage.MOVES, "move", range -> executeGqlQuery(query, range.variables(), GqlMoveDefinitionResponse.class)
+                .map(response -> {
                     if (response == null || response.data == null || response.data.move == null) {
-                        return Flux.empty();
+                        return List.<StaticMoveData>of();
                     }
-                    return Flux.fromIterable(response.data.move);
-                })
-                .handle((gqlMove, sink) -> {
-                    StaticTypeData moveType = typeCache.get(gqlMove.type != null ? gqlMove.type.name : "");
+                    StaticDataSnapshot data = staticDataRegistry.current();
+                    return response.data.move.stream()
+                            .map(gqlMove -> toMove(data, gqlMove))
+                            .toList();
+                }));
+        // Los movimientos con tipo desconocido llegan como null y se descartan sin cortar la paginación
+        return persistPages(Stage.MOVES, pages, new StageWriter<>(
+                StaticMoveData::getName,
+                move -> ContentHash.of(move.getName(), move.getPower(), move.getAccuracy(), move.getPp(),
+                        move.getPriority(), move.getDamageClass(), move.getType().getName()),
+                (data, name) -> idOrNull(data.moveOrdinal(name), data::moveId),
+                StaticMoveData::setId,
+                bulkLoader::saveMoves));
+    }
 
-                    if (moveType == null) {
-                        log.warn("Saltando movimiento '{}': Tipo '{}' no encontrado en DB.", gqlMove.name, (gqlMove.type != null ? gqlMove.type.name : "null"));
-                        return;
-                    }
+    private StaticMoveData toMove(StaticDataSnapshot data, GqlMoveDefinition gqlMove) {
+        StaticTypeData moveType = typeRef(data, gqlMove.type != null ? gqlMove.type.name : "");
 
-                    StaticMoveData moveData = StaticMoveData.builder()
-                            .name(gqlMove.name)
-                            .power(Objects.requireNonNullElse(gqlMove.power, 0))
-                            .accuracy(Objects.requireNonNullElse(gqlMove.accuracy, 0))
-                            .pp(Objects.requireNonNullElse(gqlMove.pp, 0))
-                            .priority(Objects.requireNonNullElse(gqlMove.priority, 0))
-                            .damageClass(gqlMove.move_damage_class != null ? gqlMove.move_damage_class.name : "unknown")
-                            .type(moveType)
-                            .build();
-
-                    sink.next(moveData);
-                })
-                .cast(StaticMoveData.class)
-                .collectList()
-                .doOnNext(moveRepository::saveAll)
-                .doOnNext(saved -> {
-                    log.info("Guardados {} movimientos.", saved.size());
-                    moveCache.clear();
-                    saved.forEach(m -> moveCache.put(m.getName(), m));
-                })
-                .then();
+        if (moveType == null) {
+            log.warn("Saltando movimiento '{}': Tipo '{}' no encontrado en DB.", gqlMove.name, (gqlMove.type != null ? gqlMove.type.name : "null"));
+            return null;
+        }
+
+        return StaticMoveData.builder()
+                .name(gqlMove.name)
+                .power(Objects.requireNonNullElse(gqlMove.power, 0))
+                .accuracy(Objects.requireNonNullElse(gqlMove.accuracy, 0))
+                .pp(Objects.requireNonNullElse(gqlMove.pp, 0))
+                .priority(Objects.requireNonNullElse(gqlMove.priority, 0))
+                .damageClass(gqlMove.move_damage_class != null ? gqlMove.move_damage_class.name : "unknown")
+                .type(moveType)
+                .build();
     }
 
     @Transactional
-    public Mono<Void> ingestPokemon() {
-        log.info("Iniciando ingesta de Pokémon (1-151) (esquema v1beta2)...");
+    public Mono<Integer> ingestPokemon() {
+        log.info("Iniciando ingesta paginada de Pokémon (esquema v1beta2)...");
         String query = """
-            query {
-              pokemonspecies(limit: 151, order_by: {id: asc}) {
+            query ($from: Int!, $to: Int!) {
+              pokemonspecies(where: {id: {_gte: $from, _lte: $to}}, order_by: {id: asc}) {
                 name
-                pokemons: pokemon(limit: 1) {
+                pokemons: pokemon(limit: 1, order_by: {id: asc}) {
                   stats: pokemonstats {
                     base_stat
                     stat: stat {
@@ -362,7 +643,7 @@ public class PokeApiIngestionService {
                       name
                     }
                   }
-                  moves: pokemonmoves(limit: 50) {
+                  moves: pokemonmoves(distinct_on: move_id) {
                     move: move {
                       name
                     }
@@ -371,67 +652,81 @@ public class PokeApiIngestionService {
               }
             }
         """;
-        return executeGqlQuery(query, GqlPokemonspeciesResponse.class)
-                .flatMapMany(response -> {
+        Flux<Page<StaticPokemonData>> pages = pages(Stage.POKEMON, "pokemonspecies", range -> executeGqlQuery(query, range.variables(), GqlPokemonspeciesResponse.class)
+                .map(response -> {
                     if (response == null || response.data == null || response.data.pokemonspecies == null) {
-                        return Flux.empty();
-                    }
-                    return Flux.fromIterable(response.data.pokemonspecies);
-                })
-                .handle((gqlSpecies, sink) -> {
-                    if (gqlSpecies.pokemons == null || gqlSpecies.pokemons.isEmpty()) {
-                        return;
+                        return List.<StaticPokemonData>of();
                     }
+                    StaticDataSnapshot data = staticDataRegistry.current();
+                    return response.data.pokemonspecies.stream()
+                            .map(gqlSpecies -> toPokemon(data, gqlSpecies))
+                            .toList();
+                }));
+        return persistPages(Stage.POKEMON, pages, new StageWriter<>(
+                StaticPokemonData::getName,
+                this::hashOf,
+                (data, name) -> idOrNull(data.speciesOrdinal(name), data::speciesId),
+                StaticPokemonData::setId,
+                bulkLoader::savePokemon));
+    }
 
-                    GqlPokemonInstance instance = gqlSpecies.pokemons.get(0);
-
-                    Map<String, Integer> stats = (instance.stats == null) ? Collections.emptyMap()
-                            : instance.stats.stream()
-                                    .filter(s -> s.stat != null)
-                                    .collect(Collectors.toMap(s -> s.stat.name, s -> s.base_stat));
-
-                    Set<StaticTypeData> types = (instance.types == null) ? Collections.emptySet()
-                            : instance.types.stream()
-                                    .filter(t -> t.type != null && typeCache.containsKey(t.type.name))
-                                    .map(t -> typeCache.get(t.type.name))
-                                    .collect(Collectors.toSet());
-
-                    Set<StaticAbilityData> abilities = (instance.abilities == null) ? Collections.emptySet()
-                            : instance.abilities.stream()
-                                    .filter(a -> a.ability != null && abilityCache.containsKey(a.ability.name))
-                                    .map(a -> abilityCache.get(a.ability.name))
-                                    .collect(Collectors.toSet());
-
-                    Set<StaticMoveData> moves = (instance.moves == null) ? Collections.emptySet()
-                            : instance.moves.stream()
-                                    .filter(m -> m.move != null && moveCache.containsKey(m.move.name))
-                                    .map(m -> moveCache.get(m.move.name))
-                                    .collect(Collectors.toSet());
-
-                    StaticPokemonData pokemon = StaticPokemonData.builder()
-                            .name(gqlSpecies.name)
-                            .baseHp(stats.getOrDefault("hp", 0))
-                            .baseAttack(stats.getOrDefault("attack", 0))
-                            .baseDefense(stats.getOrDefault("defense", 0))
-                            .baseSpecialAttack(stats.getOrDefault("special-attack", 0))
-                            .baseSpecialDefense(stats.getOrDefault("special-defense", 0))
-                            .baseSpeed(stats.getOrDefault("speed", 0))
-                            .types(types)
-                            .abilities(abilities)
-                            .moves(moves)
-                            .build();
-
-                    sink.next(pokemon);
-                })
-                .cast(StaticPokemonData.class)
-                .collectList()
-                .doOnNext(pokemonRepository::saveAll)
-                .doOnNext(saved -> log.info("Guardados {} Pokémon.", saved.size()))
-                .then();
+    private long hashOf(StaticPokemonData pokemon) {
+        return ContentHash.of(pokemon.getName(), pokemon.getBaseHp(), pokemon.getBaseAttack(), pokemon.getBaseDefense(),
+                pokemon.getBaseSpecialAttack(), pokemon.getBaseSpecialDefense(), pokemon.getBaseSpeed(),
+                pokemon.getTypes().stream().map(StaticTypeData::getName).toList(),
+                pokemon.getAbilities().stream().map(StaticAbilityData::getName).toList(),
+                pokemon.getMoves().stream().map(StaticMoveData::getName).toList());
+    }
+
+    private StaticPokemonData toPokemon(StaticDataSnapshot data, GqlPokemonspecies gqlSpecies) {
+        if (gqlSpecies.pokemons == null || gqlSpecies.pokemons.isEmpty()) {
+            return null;
+        }
+
+        GqlPokemonInstance instance = gqlSpecies.pokemons.get(0);
+
+        Map<String, Integer> stats = (instance.stats == null) ? Collections.emptyMap()
+                : instance.stats.stream()
+                        .filter(s -> s.stat != null)
+                        .collect(Collectors.toMap(s -> s.stat.name, s -> s.base_stat));
+
+        Set<StaticTypeData> types = (instance.types == null) ? Collections.emptySet()
+                : instance.types.stream()
+                        .filter(t -> t.type != null)
+                        .map(t -> typeRef(data, t.type.name))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+
+        Set<StaticAbilityData> abilities = (instance.abilities == null) ? Collections.emptySet()
+                : instance.abilities.stream()
+                        .filter(a -> a.ability != null)
+                        .map(a -> abilityRef(data, a.ability.name))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+
+        Set<StaticMoveData> moves = (instance.moves == null) ? Collections.emptySet()
+                : instance.moves.stream()
+                        .filter(m -> m.move != null)
+                        .map(m -> moveRef(data, m.move.name))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+
+        return StaticPokemonData.builder()
+                .name(gqlSpecies.name)
+                .baseHp(stats.getOrDefault("hp", 0))
+                .baseAttack(stats.getOrDefault("attack", 0))
+                .baseDefense(stats.getOrDefault("defense", 0))
+                .baseSpecialAttack(stats.getOrDefault("special-attack", 0))
+                .baseSpecialDefense(stats.getOrDefault("special-defense", 0))
+                .baseSpeed(stats.getOrDefault("speed", 0))
+                .types(types)
+                .abilities(abilities)
+                .moves(moves)
+                .build();
     }
 
     @Transactional
-    public Mono<Void> ingestTypeDamageRelations() {
+    public Mono<Integer> ingestTypeDamageRelations() {
         log.info("Iniciando ingesta de Relaciones de Daño de Tipos (esquema v1beta2)...");
         String query = """
             query {
@@ -455,9 +750,14 @@ public class PokeApiIngestionService {
                     return response.data.type;
                 })
                 .flatMap(allTypeDefs -> {
+                    // Se reconstruye la tabla de efectividades completa; el factor 100 es el valor por defecto
+                    StaticDataSnapshot data = staticDataRegistry.current();
+                    List<String> relations = new ArrayList<>();
+                    List<TypeEfficacy> efficacies = new ArrayList<>();
+
                     for (GqlTypeDefinition attackingTypeGql : allTypeDefs) {
-                        StaticTypeData attackingType = typeCache.get(attackingTypeGql.name);
-                        if (attackingType == null || attackingTypeGql.typeefficacies == null) {
+                        int attackingType = data.typeOrdinal(attackingTypeGql.name);
+                        if (attackingType < 0 || attackingTypeGql.typeefficacies == null) {
                             continue;
                         }
 
@@ -465,24 +765,35 @@ public class PokeApiIngestionService {
                             if (efficacy == null || efficacy.damage_type == null) {
                                 continue;
                             }
-                            StaticTypeData targetType = typeCache.get(efficacy.damage_type.name);
-                            if (targetType == null) {
+                            int defendingType = data.typeOrdinal(efficacy.damage_type.name);
+                            if (defendingType < 0) {
                                 continue;
                             }
 
-                            if (efficacy.damage_factor == 200) {
-                                targetType.getDoubleDamageFrom().add(attackingType);
-                            } else if (efficacy.damage_factor == 50) {
-                                targetType.getHalfDamageFrom().add(attackingType);
-                            } else if (efficacy.damage_factor == 0) {
-                                targetType.getNoDamageFrom().add(attackingType);
+                            relations.add(attackingTypeGql.name + ">" + efficacy.damage_type.name + "=" + efficacy.damage_factor);
+                            if (efficacy.damage_factor != 100) {
+                                efficacies.add(new TypeEfficacy(data.typeId(attackingType), data.typeId(defendingType),
+                                        efficacy.damage_factor));
                             }
                         }
                     }
-                    return Flux.fromIterable(typeCache.values())
-                            .collectList()
-                            .doOnNext(typeRepository::saveAll);
+
+                    // Si el hash de la etapa no ha cambiado, no se reescribe ninguna relación
+                    long hash = ContentHash.of(relations);
+                    return Mono.fromCallable(() -> hashStore.stageHash(Stage.TYPE_RELATIONS))
+                            .subscribeOn(persistenceScheduler)
+                            .flatMap(stored -> {
+                                if (stored.isPresent() && stored.getAsLong() == hash) {
+                                    log.info("Relaciones de daño sin cambios; no se reescriben.");
+                                    return Mono.just(0);
+                                }
+                                return persist(efficacies, batch -> transactionTemplate.execute(status -> {
+                                    List<TypeEfficacy> saved = bulkLoader.replaceTypeEfficacy(batch);
+                                    hashStore.saveStageHash(Stage.TYPE_RELATIONS, hash);
+                                    return saved;
+                                })).thenReturn(relations.size());
+                            });
                 })
-                .then();
+                .defaultIfEmpty(0);
     }
 }
@@ -0,0 +1,185 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.dto.StaleLobbyDTO;
+import com.pokemon.game.model.GameLobby;
+import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.util.Enums;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Elimina en segundo plano los lobbies que siguen en WAITING pasado su tiempo
+ * de vida sin que nadie se haya unido. Recorre los candidatos con paginación
+ * por clave (created_at, id) y borra cada lote en su propia transacción corta.
+ *
+ * Con el mismo recorrido, por (finished_at, id), saca de game_lobbies los
+ * lobbies FINISHED pasada la gracia desde el fin de la partida: ya están en
+ * match_history desde finishGame, así que la tabla caliente sólo conserva
+ * lobbies vivos.
+ *
+ * Luis
+ */
+@Component
+@Slf4j
+public class StaleLobbyReaper {
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID KEYSET_START_ID = new UUID(0L, 0L);
+
+    private final GameLobbyRepository gameLobbyRepository;
+    private final PlayerRepository playerRepository;
+    private final LobbySlotRegistry lobbySlotRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${game.lobby.reaper.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${game.lobby.archive.grace-minutes:5}")
+    private long finishedGraceMinutes;
+
+    @Value("${game.lobby.reaper.batch-size:200}")
+    private int batchSize;
+
+    @Value("${game.lobby.reaper.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    public StaleLobbyReaper(GameLobbyRepository gameLobbyRepository,
+            PlayerRepository playerRepository,
+            LobbySlotRegistry lobbySlotRegistry,
+            SimpMessagingTemplate messagingTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.gameLobbyRepository = gameLobbyRepository;
+        this.playerRepository = playerRepository;
+        this.lobbySlotRegistry = lobbySlotRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${game.lobby.reaper.interval-ms:60000}",
+            fixedDelayString = "${game.lobby.reaper.interval-ms:60000}")
+    public void reapStaleLobbies() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ttlMinutes);
+        int maxPlayers = LobbySlotRegistry.LOBBY_CAPACITY - 1;
+        int totalDeleted = sweep(Enums.GameStatus.WAITING,
+                (afterAt, afterId, limit) -> gameLobbyRepository.findExpiredAfter(
+                        Enums.GameStatus.WAITING, cutoff, maxPlayers, afterAt, afterId, limit),
+                ids -> gameLobbyRepository.lockExpiredByIds(ids, Enums.GameStatus.WAITING, cutoff, maxPlayers),
+                true);
+
+        if (totalDeleted > 0) {
+            log.info("Limpieza de lobbies: {} lobbies abandonados eliminados (creados antes de {}).", totalDeleted, cutoff);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${game.lobby.archive.interval-ms:60000}",
+            fixedDelayString = "${game.lobby.archive.interval-ms:60000}")
+    public void archiveFinishedLobbies() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(finishedGraceMinutes);
+        int totalArchived = sweep(Enums.GameStatus.FINISHED,
+                (afterAt, afterId, limit) -> gameLobbyRepository.findFinishedAfter(cutoff, afterAt, afterId, limit),
+                ids -> gameLobbyRepository.lockFinishedByIds(ids, cutoff),
+                false);
+
+        if (totalArchived > 0) {
+            log.info("Archivo de lobbies: {} lobbies terminados retirados de game_lobbies (terminados antes de {}).", totalArchived, cutoff);
+        }
+    }
+
+    /**
+     * Página de candidatos tras la última clave (instante, id) vista.
+     */
+    @FunctionalInterface
+    private interface PageQuery {
+
+        List<StaleLobbyDTO> after(LocalDateTime afterAt, UUID afterId, Limit limit);
+    }
+
+    private int sweep(Enums.GameStatus status, PageQuery pageQuery,
+            Function<List<UUID>, List<GameLobby>> lockQuery, boolean announceRemoval) {
+        LocalDateTime afterAt = KEYSET_START;
+        UUID afterId = KEYSET_START_ID;
+        int totalDeleted = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<StaleLobbyDTO> page = pageQuery.after(afterAt, afterId, Limit.of(batchSize));
+
+            if (page.isEmpty()) {
+                break;
+            }
+
+            totalDeleted += deleteBatch(page, status, lockQuery, announceRemoval);
+
+            StaleLobbyDTO last = page.get(page.size() - 1);
+            afterAt = last.sweptAt();
+            afterId = last.id();
+
+            if (page.size() < batchSize) {
+                break;
+            }
+        }
+        return totalDeleted;
+    }
+
+    /**
+     * La página puede venir de la réplica: dentro de la transacción se bloquean
+     * sólo los lobbies que siguen cumpliendo el filtro y únicamente a esos se les
+     * sueltan los jugadores y se borran. Las plazas retiradas se liberan al acabar,
+     * haya commit o no.
+     */
+    private int deleteBatch(List<StaleLobbyDTO> page, Enums.GameStatus status,
+            Function<List<UUID>, List<GameLobby>> lockQuery, boolean announceRemoval) {
+        List<UUID> candidates = page.stream().map(StaleLobbyDTO::id).toList();
+        List<UUID> retired = new ArrayList<>();
+
+        Set<UUID> deleted;
+        try {
+            deleted = transactionTemplate.execute(tx -> {
+                List<UUID> ids = lockQuery.apply(candidates).stream()
+                        .map(GameLobby::getId)
+                        .toList();
+                if (ids.isEmpty()) {
+                    return Set.<UUID>of();
+                }
+                ids.forEach(id -> {
+                    lobbySlotRegistry.retire(id);
+                    retired.add(id);
+                });
+                playerRepository.detachFromLobbies(ids);
+                gameLobbyRepository.deleteAllByIdInBatch(ids);
+                return Set.copyOf(ids);
+            });
+        } catch (RuntimeException e) {
+            log.error("No se pudo eliminar un lote de {} lobbies en {}.", candidates.size(), status, e);
+            return 0;
+        } finally {
+            retired.forEach(lobbySlotRegistry::forget);
+        }
+
+        // Los FINISHED ya no figuran en la lista de lobbies públicos
+        if (announceRemoval) {
+            page.stream()
+                    .filter(lobby -> lobby.isPublic() && deleted.contains(lobby.id()))
+                    .forEach(lobby -> messagingTemplate.convertAndSend("/topic/lobby", Map.of(
+                    "type", "LOBBY_REMOVED",
+                    "lobbyId", lobby.id()
+            )));
+        }
+
+        return deleted.size();
+    }
+}
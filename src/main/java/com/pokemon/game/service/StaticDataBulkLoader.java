@@ -0,0 +1,292 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.model.StaticAbilityData;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.StaticTypeData;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Escritura masiva de las tablas estáticas y sus tablas de unión con lotes
+ * JDBC (el driver los reescribe como INSERT multi-fila), sin pasar por el
+ * persist de Hibernate. Los IDs de los registros nuevos se reservan en
+ * memoria a partir del MAX(id) de cada tabla, así que las filas de unión se
+ * pueden escribir en el mismo paso.
+ *
+ * Debe llamarse dentro de una transacción: cada llamada es un único paso de
+ * la carga y sólo la transacción del llamador la hace atómica. Como estas
+ * escrituras no pasan por Hibernate, al confirmar se vacía su caché de
+ * segundo nivel y de consultas.
+ *
+ * Luis
+ */
+@Component
+@Slf4j
+public class StaticDataBulkLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${game.static-data.bulk.batch-size:1000}")
+    private int batchSize = 1000;
+
+    public StaticDataBulkLoader(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Filas escritas por tabla y duración total de una carga.
+     */
+    public record LoadReport(Map<String, Integer> rowsByTable, long elapsedMs) {
+
+        public int totalRows() {
+            return rowsByTable.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * Fila de type_efficacy; factor en porcentaje (100 = neutro, no se guarda).
+     */
+    public record TypeEfficacy(long attackingTypeId, long defendingTypeId, int factor) {
+
+    }
+
+    // --- Entidades de la ingesta ---
+    public List<StaticTypeData> saveTypes(List<StaticTypeData> types) {
+        List<StaticTypeData> created = assignIds("static_type_data", types, StaticTypeData::getId, StaticTypeData::setId);
+        batch("INSERT INTO static_type_data (id, name) VALUES (?, ?)",
+                rows(created, type -> new Object[]{type.getId(), type.getName()}));
+        return types;
+    }
+
+    public List<StaticAbilityData> saveAbilities(List<StaticAbilityData> abilities) {
+        List<StaticAbilityData> existing = existing(abilities, StaticAbilityData::getId);
+        List<StaticAbilityData> created = assignIds("static_ability_data", abilities, StaticAbilityData::getId, StaticAbilityData::setId);
+
+        batch("INSERT INTO static_ability_data (id, name, description) VALUES (?, ?, ?)",
+                rows(created, a -> new Object[]{a.getId(), a.getName(), a.getDescription()}));
+        batch("UPDATE static_ability_data SET name = ?, description = ? WHERE id = ?",
+                rows(existing, a -> new Object[]{a.getName(), a.getDescription(), a.getId()}));
+        return abilities;
+    }
+
+    public List<StaticMoveData> saveMoves(List<StaticMoveData> moves) {
+        List<StaticMoveData> existing = existing(moves, StaticMoveData::getId);
+        List<StaticMoveData> created = assignIds("static_move_data", moves, StaticMoveData::getId, StaticMoveData::setId);
+
+        batch("INSERT INTO static_move_data (id, name, power, accuracy, pp, priority, damage_class, static_type_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows(created, m -> new Object[]{m.getId(), m.getName(), m.getPower(), m.getAccuracy(), m.getPp(),
+                    m.getPriority(), m.getDamageClass(), m.getType().getId()}));
+        batch("UPDATE static_move_data SET name = ?, power = ?, accuracy = ?, pp = ?, priority = ?, damage_class = ?, "
+                + "static_type_id = ? WHERE id = ?",
+                rows(existing, m -> new Object[]{m.getName(), m.getPower(), m.getAccuracy(), m.getPp(),
+                    m.getPriority(), m.getDamageClass(), m.getType().getId(), m.getId()}));
+        return moves;
+    }
+
+    public List<StaticPokemonData> savePokemon(List<StaticPokemonData> pokemon) {
+        List<StaticPokemonData> existing = existing(pokemon, StaticPokemonData::getId);
+        List<StaticPokemonData> created = assignIds("static_pokemon_data", pokemon, StaticPokemonData::getId, StaticPokemonData::setId);
+
+        batch("INSERT INTO static_pokemon_data (id, name, base_hp, base_attack, base_defense, base_special_attack, "
+                + "base_special_defense, base_speed) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows(created, p -> new Object[]{p.getId(), p.getName(), p.getBaseHp(), p.getBaseAttack(), p.getBaseDefense(),
+                    p.getBaseSpecialAttack(), p.getBaseSpecialDefense(), p.getBaseSpeed()}));
+        batch("UPDATE static_pokemon_data SET name = ?, base_hp = ?, base_attack = ?, base_defense = ?, "
+                + "base_special_attack = ?, base_special_defense = ?, base_speed = ? WHERE id = ?",
+                rows(existing, p -> new Object[]{p.getName(), p.getBaseHp(), p.getBaseAttack(), p.getBaseDefense(),
+                    p.getBaseSpecialAttack(), p.getBaseSpecialDefense(), p.getBaseSpeed(), p.getId()}));
+
+        // Las relaciones de los registros actualizados se sustituyen completas
+        if (!existing.isEmpty()) {
+            MapSqlParameterSource ids = new MapSqlParameterSource("ids", existing.stream().map(StaticPokemonData::getId).toList());
+            namedJdbcTemplate.update("DELETE FROM pokemon_types WHERE static_pokemon_data_id IN (:ids)", ids);
+            namedJdbcTemplate.update("DELETE FROM pokemon_abilities WHERE static_pokemon_data_id IN (:ids)", ids);
+            namedJdbcTemplate.update("DELETE FROM pokemon_moves WHERE static_pokemon_data_id IN (:ids)", ids);
+        }
+
+        List<Object[]> types = new ArrayList<>();
+        List<Object[]> abilities = new ArrayList<>();
+        List<Object[]> moves = new ArrayList<>();
+        for (StaticPokemonData p : pokemon) {
+            p.getTypes().forEach(t -> types.add(new Object[]{p.getId(), t.getId()}));
+            p.getAbilities().forEach(a -> abilities.add(new Object[]{p.getId(), a.getId()}));
+            p.getMoves().forEach(m -> moves.add(new Object[]{p.getId(), m.getId()}));
+        }
+        batch("INSERT INTO pokemon_types (static_pokemon_data_id, types_id) VALUES (?, ?)", types);
+        batch("INSERT INTO pokemon_abilities (static_pokemon_data_id, abilities_id) VALUES (?, ?)", abilities);
+        batch("INSERT INTO pokemon_moves (static_pokemon_data_id, moves_id) VALUES (?, ?)", moves);
+        return pokemon;
+    }
+
+    /**
+     * Sustituye la tabla de efectividades por las filas dadas.
+     */
+    public List<TypeEfficacy> replaceTypeEfficacy(List<TypeEfficacy> efficacies) {
+        evictCachesOnCommit();
+        jdbcTemplate.update("DELETE FROM type_efficacy");
+        insertTypeEfficacy(efficacies);
+        return efficacies;
+    }
+
+    // --- Snapshot completo ---
+    /**
+     * Escribe un snapshot completo en tablas estáticas vacías, conservando sus IDs.
+     */
+    public LoadReport loadSnapshot(StaticDataSnapshot data) {
+        long start = System.currentTimeMillis();
+        Map<String, Integer> report = new LinkedHashMap<>();
+
+        List<Object[]> types = new ArrayList<>();
+        for (int t = 0; t < data.typeCount(); t++) {
+            types.add(new Object[]{data.typeId(t), data.typeName(t)});
+        }
+        report.put("static_type_data", batch("INSERT INTO static_type_data (id, name) VALUES (?, ?)", types));
+
+        List<TypeEfficacy> efficacies = new ArrayList<>();
+        for (int a = 0; a < data.typeCount(); a++) {
+            for (int d = 0; d < data.typeCount(); d++) {
+                double factor = data.effectiveness(a, d);
+                if (factor != 1.0) {
+                    efficacies.add(new TypeEfficacy(data.typeId(a), data.typeId(d), (int) Math.round(factor * 100)));
+                }
+            }
+        }
+        report.put("type_efficacy", insertTypeEfficacy(efficacies));
+
+        List<Object[]> abilities = new ArrayList<>();
+        for (int a = 0; a < data.abilityCount(); a++) {
+            abilities.add(new Object[]{data.abilityId(a), data.abilityName(a), data.abilityDescription(a)});
+        }
+        report.put("static_ability_data", batch("INSERT INTO static_ability_data (id, name, description) VALUES (?, ?, ?)", abilities));
+
+        List<Object[]> moves = new ArrayList<>();
+        for (int m = 0; m < data.moveCount(); m++) {
+            moves.add(new Object[]{data.moveId(m), data.moveName(m), data.movePower(m), data.moveAccuracy(m),
+                data.movePp(m), data.movePriority(m), data.moveDamageClass(m), data.typeId(data.moveType(m))});
+        }
+        report.put("static_move_data", batch("INSERT INTO static_move_data (id, name, power, accuracy, pp, priority, damage_class, static_type_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", moves));
+
+        List<Object[]> species = new ArrayList<>();
+        List<Object[]> speciesTypes = new ArrayList<>();
+        List<Object[]> speciesAbilities = new ArrayList<>();
+        List<Object[]> learnsets = new ArrayList<>();
+        for (int s = 0; s < data.speciesCount(); s++) {
+            long speciesId = data.speciesId(s);
+            species.add(new Object[]{speciesId, data.speciesName(s), data.baseHp(s), data.baseAttack(s), data.baseDefense(s),
+                data.baseSpecialAttack(s), data.baseSpecialDefense(s), data.baseSpeed(s)});
+            for (int type : data.speciesTypes(s)) {
+                speciesTypes.add(new Object[]{speciesId, data.typeId(type)});
+            }
+            for (int ability : data.speciesAbilities(s)) {
+                speciesAbilities.add(new Object[]{speciesId, data.abilityId(ability)});
+            }
+            for (int move : data.learnableMoves(s)) {
+                learnsets.add(new Object[]{speciesId, data.moveId(move)});
+            }
+        }
+        report.put("static_pokemon_data", batch("INSERT INTO static_pokemon_data (id, name, base_hp, base_attack, base_defense, "
+                + "base_special_attack, base_special_defense, base_speed) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", species));
+        report.put("pokemon_types", batch("INSERT INTO pokemon_types (static_pokemon_data_id, types_id) VALUES (?, ?)", speciesTypes));
+        report.put("pokemon_abilities", batch("INSERT INTO pokemon_abilities (static_pokemon_data_id, abilities_id) VALUES (?, ?)", speciesAbilities));
+        report.put("pokemon_moves", batch("INSERT INTO pokemon_moves (static_pokemon_data_id, moves_id) VALUES (?, ?)", learnsets));
+
+        LoadReport result = new LoadReport(report, System.currentTimeMillis() - start);
+        log.info("Carga masiva de datos estáticos: {} filas en {} ms {}", result.totalRows(), result.elapsedMs(), report);
+        return result;
+    }
+
+    private int insertTypeEfficacy(List<TypeEfficacy> efficacies) {
+        return batch("INSERT INTO type_efficacy (attacking_type_id, defending_type_id, factor) VALUES (?, ?, ?)",
+                rows(efficacies, e -> new Object[]{e.attackingTypeId(), e.defendingTypeId(), e.factor()}));
+    }
+
+    /**
+     * Reserva IDs consecutivos tras el MAX(id) actual para los registros sin
+     * ID y devuelve esos registros.
+     */
+    private <T> List<T> assignIds(String table, Collection<T> items, Function<T, Long> getId, BiConsumer<T, Long> setId) {
+        List<T> created = items.stream().filter(item -> getId.apply(item) == null).toList();
+        if (created.isEmpty()) {
+            return created;
+        }
+
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long next = (max == null ? 0L : max) + 1;
+        for (T item : created) {
+            setId.accept(item, next++);
+        }
+        return created;
+    }
+
+    private <T> List<T> existing(Collection<T> items, Function<T, Long> getId) {
+        return items.stream().filter(item -> getId.apply(item) != null).toList();
+    }
+
+    private <T> List<Object[]> rows(Collection<T> items, Function<T, Object[]> mapper) {
+        return items.stream().map(mapper).toList();
+    }
+
+    private int batch(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        evictCachesOnCommit();
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * Vacía la caché de segundo nivel tras confirmar la transacción en curso
+     * (una sola vez por transacción), o en el acto si no hay ninguna.
+     */
+    private void evictCachesOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCaches();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCaches();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(StaticDataBulkLoader.this);
+            }
+        });
+    }
+
+    private void evictCaches() {
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictAllRegions();
+    }
+}
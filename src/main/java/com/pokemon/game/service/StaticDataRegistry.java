@@ -0,0 +1,97 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.repository.StaticAbilityDataRepository;
+import com.pokemon.game.repository.StaticMoveDataRepository;
+import com.pokemon.game.repository.StaticPokemonDataRepository;
+import com.pokemon.game.repository.StaticTypeDataRepository;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro en memoria de los datos estáticos. Se construye de una vez tras la
+ * ingesta y se publica como una instantánea inmutable: los lectores nunca ven
+ * un estado a medias y no necesitan sincronización.
+ *
+ * Luis
+ */
+@Component
+@Slf4j
+public class StaticDataRegistry {
+
+    private final StaticTypeDataRepository typeRepository;
+    private final StaticAbilityDataRepository abilityRepository;
+    private final StaticMoveDataRepository moveRepository;
+    private final StaticPokemonDataRepository pokemonRepository;
+
+    private final AtomicReference<StaticDataSnapshot> snapshot = new AtomicReference<>(StaticDataSnapshot.EMPTY);
+
+    public StaticDataRegistry(StaticTypeDataRepository typeRepository,
+            StaticAbilityDataRepository abilityRepository,
+            StaticMoveDataRepository moveRepository,
+            StaticPokemonDataRepository pokemonRepository) {
+        this.typeRepository = typeRepository;
+        this.abilityRepository = abilityRepository;
+        this.moveRepository = moveRepository;
+        this.pokemonRepository = pokemonRepository;
+    }
+
+    public StaticDataSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Vuelve a leer todos los datos estáticos y publica la nueva instantánea.
+     */
+    public synchronized StaticDataSnapshot reload() {
+        long start = System.currentTimeMillis();
+        StaticDataSnapshot.Builder builder = StaticDataSnapshot.builder();
+
+        for (Object[] row : typeRepository.findAllIdAndName()) {
+            builder.addType((Long) row[0], (String) row[1]);
+        }
+        for (Object[] row : typeRepository.findAllEfficacyRows()) {
+            builder.addEffectiveness(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                    ((Number) row[2]).intValue() / 100.0);
+        }
+
+        for (Object[] row : abilityRepository.findAllAbilityRows()) {
+            builder.addAbility((Long) row[0], (String) row[1], (String) row[2]);
+        }
+
+        for (Object[] row : moveRepository.findAllMoveRows()) {
+            builder.addMove((Long) row[0], (String) row[1], (Integer) row[2], (Integer) row[3],
+                    (Integer) row[4], (Integer) row[5], (String) row[6], (Long) row[7]);
+        }
+
+        for (Object[] row : pokemonRepository.findAllStatRows()) {
+            builder.addSpecies((Long) row[0], (String) row[1], (Integer) row[2], (Integer) row[3],
+                    (Integer) row[4], (Integer) row[5], (Integer) row[6], (Integer) row[7]);
+        }
+        for (Object[] pair : pokemonRepository.findAllTypePairs()) {
+            builder.addSpeciesType((Long) pair[0], (Long) pair[1]);
+        }
+        for (Object[] pair : pokemonRepository.findAllAbilityPairs()) {
+            builder.addSpeciesAbility((Long) pair[0], (Long) pair[1]);
+        }
+        for (Object[] pair : pokemonRepository.findAllLearnsetPairs()) {
+            builder.addLearnableMove((Long) pair[0], (Long) pair[1]);
+        }
+
+        StaticDataSnapshot built = builder.build();
+        publish(built);
+
+        log.info("Registro de datos estáticos cargado: {} tipos, {} habilidades, {} movimientos, {} especies en {} ms.",
+                built.typeCount(), built.abilityCount(), built.moveCount(), built.speciesCount(),
+                System.currentTimeMillis() - start);
+        return built;
+    }
+
+    /**
+     * Publica una instantánea construida fuera de la BD (por ejemplo, desde un
+     * fichero de snapshot).
+     */
+    public void publish(StaticDataSnapshot built) {
+        snapshot.set(built);
+    }
+}
@@ -0,0 +1,470 @@
+package com.pokemon.game.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copia inmutable de todos los datos estáticos (tipos, habilidades, movimientos
+ * y especies). Cada entidad tiene un ordinal denso; los atributos viven en
+ * arrays primitivos indexados por ese ordinal y se llega a ellos por ID o por
+ * nombre (sin distinguir mayúsculas). Los métodos devuelven -1 si no existe.
+ *
+ * Luis
+ */
+public final class StaticDataSnapshot {
+
+    public static final StaticDataSnapshot EMPTY = builder().build();
+
+    // Tipos
+    private final long[] typeIds;
+    private final String[] typeNames;
+    private final Map<Long, Integer> typesById;
+    private final Map<String, Integer> typesByName;
+    private final double[] effectiveness; // [atacante * nTipos + defensor]
+
+    // Habilidades
+    private final long[] abilityIds;
+    private final String[] abilityNames;
+    private final String[] abilityDescriptions;
+    private final Map<Long, Integer> abilitiesById;
+    private final Map<String, Integer> abilitiesByName;
+
+    // Movimientos
+    private final long[] moveIds;
+    private final String[] moveNames;
+    private final int[] movePower;
+    private final int[] moveAccuracy;
+    private final int[] movePp;
+    private final int[] movePriority;
+    private final String[] moveDamageClass;
+    private final int[] moveType;
+    private final Map<Long, Integer> movesById;
+    private final Map<String, Integer> movesByName;
+
+    // Especies
+    private final long[] speciesIds;
+    private final String[] speciesNames;
+    private final int[] baseHp;
+    private final int[] baseAttack;
+    private final int[] baseDefense;
+    private final int[] baseSpecialAttack;
+    private final int[] baseSpecialDefense;
+    private final int[] baseSpeed;
+    private final int[][] speciesTypes;
+    private final int[][] speciesAbilities;
+    private final long[][] learnsets;
+    private final Map<Long, Integer> speciesById;
+    private final Map<String, Integer> speciesByName;
+
+    private StaticDataSnapshot(Builder b) {
+        int nTypes = b.types.size();
+        typeIds = new long[nTypes];
+        typeNames = new String[nTypes];
+        for (int i = 0; i < nTypes; i++) {
+            typeIds[i] = b.types.get(i).id();
+            typeNames[i] = b.types.get(i).name();
+        }
+        typesById = Map.copyOf(b.typesById);
+        typesByName = Map.copyOf(b.typesByName);
+
+        effectiveness = new double[nTypes * nTypes];
+        Arrays.fill(effectiveness, 1.0);
+        for (double[] relation : b.effectiveness) {
+            Integer attacking = b.typesById.get((long) relation[0]);
+            Integer defending = b.typesById.get((long) relation[1]);
+            if (attacking != null && defending != null) {
+                effectiveness[attacking * nTypes + defending] = relation[2];
+            }
+        }
+
+        int nAbilities = b.abilities.size();
+        abilityIds = new long[nAbilities];
+        abilityNames = new String[nAbilities];
+        abilityDescriptions = new String[nAbilities];
+        for (int i = 0; i < nAbilities; i++) {
+            abilityIds[i] = b.abilities.get(i).id();
+            abilityNames[i] = b.abilities.get(i).name();
+            abilityDescriptions[i] = b.abilities.get(i).description();
+        }
+        abilitiesById = Map.copyOf(b.abilitiesById);
+        abilitiesByName = Map.copyOf(b.abilitiesByName);
+
+        int nMoves = b.moves.size();
+        moveIds = new long[nMoves];
+        moveNames = new String[nMoves];
+        movePower = new int[nMoves];
+        moveAccuracy = new int[nMoves];
+        movePp = new int[nMoves];
+        movePriority = new int[nMoves];
+        moveDamageClass = new String[nMoves];
+        moveType = new int[nMoves];
+        for (int i = 0; i < nMoves; i++) {
+            MoveRow move = b.moves.get(i);
+            moveIds[i] = move.id();
+            moveNames[i] = move.name();
+            movePower[i] = move.power();
+            moveAccuracy[i] = move.accuracy();
+            movePp[i] = move.pp();
+            movePriority[i] = move.priority();
+            moveDamageClass[i] = move.damageClass();
+            moveType[i] = b.typesById.getOrDefault(move.typeId(), -1);
+        }
+        movesById = Map.copyOf(b.movesById);
+        movesByName = Map.copyOf(b.movesByName);
+
+        int nSpecies = b.species.size();
+        speciesIds = new long[nSpecies];
+        speciesNames = new String[nSpecies];
+        baseHp = new int[nSpecies];
+        baseAttack = new int[nSpecies];
+        baseDefense = new int[nSpecies];
+        baseSpecialAttack = new int[nSpecies];
+        baseSpecialDefense = new int[nSpecies];
+        baseSpeed = new int[nSpecies];
+        for (int i = 0; i < nSpecies; i++) {
+            SpeciesRow species = b.species.get(i);
+            speciesIds[i] = species.id();
+            speciesNames[i] = species.name();
+            baseHp[i] = species.hp();
+            baseAttack[i] = species.attack();
+            baseDefense[i] = species.defense();
+            baseSpecialAttack[i] = species.specialAttack();
+            baseSpecialDefense[i] = species.specialDefense();
+            baseSpeed[i] = species.speed();
+        }
+        speciesById = Map.copyOf(b.speciesById);
+        speciesByName = Map.copyOf(b.speciesByName);
+
+        speciesTypes = toOrdinalLists(b.speciesTypes, nSpecies, b.typesById);
+        speciesAbilities = toOrdinalLists(b.speciesAbilities, nSpecies, b.abilitiesById);
+
+        int words = Math.max(1, (nMoves + 63) >>> 6);
+        learnsets = new long[nSpecies][words];
+        for (long[] pair : b.learnsets) {
+            Integer species = b.speciesById.get(pair[0]);
+            Integer move = b.movesById.get(pair[1]);
+            if (species != null && move != null) {
+                learnsets[species][move >>> 6] |= 1L << move;
+            }
+        }
+    }
+
+    private int[][] toOrdinalLists(List<long[]> pairs, int nSpecies, Map<Long, Integer> targetsById) {
+        List<List<Integer>> lists = new ArrayList<>(nSpecies);
+        for (int i = 0; i < nSpecies; i++) {
+            lists.add(new ArrayList<>(2));
+        }
+        for (long[] pair : pairs) {
+            Integer species = speciesById.get(pair[0]);
+            Integer target = targetsById.get(pair[1]);
+            if (species != null && target != null) {
+                lists.get(species).add(target);
+            }
+        }
+
+        int[][] result = new int[nSpecies][];
+        for (int i = 0; i < nSpecies; i++) {
+            result[i] = lists.get(i).stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+        return result;
+    }
+
+    // --- Tipos ---
+    public int typeCount() {
+        return typeIds.length;
+    }
+
+    public int typeOrdinal(String name) {
+        return typesByName.getOrDefault(normalize(name), -1);
+    }
+
+    public int typeOrdinalById(Long id) {
+        return id == null ? -1 : typesById.getOrDefault(id, -1);
+    }
+
+    public long typeId(int type) {
+        return typeIds[type];
+    }
+
+    public String typeName(int type) {
+        return typeNames[type];
+    }
+
+    public double effectiveness(int attackingType, int defendingType) {
+        return effectiveness[attackingType * typeIds.length + defendingType];
+    }
+
+    // --- Habilidades ---
+    public int abilityCount() {
+        return abilityIds.length;
+    }
+
+    public int abilityOrdinal(String name) {
+        return abilitiesByName.getOrDefault(normalize(name), -1);
+    }
+
+    public long abilityId(int ability) {
+        return abilityIds[ability];
+    }
+
+    public String abilityName(int ability) {
+        return abilityNames[ability];
+    }
+
+    public String abilityDescription(int ability) {
+        return abilityDescriptions[ability];
+    }
+
+    // --- Movimientos ---
+    public int moveCount() {
+        return moveIds.length;
+    }
+
+    public int moveOrdinal(String name) {
+        return movesByName.getOrDefault(normalize(name), -1);
+    }
+
+    public int moveOrdinalById(Long id) {
+        return id == null ? -1 : movesById.getOrDefault(id, -1);
+    }
+
+    public long moveId(int move) {
+        return moveIds[move];
+    }
+
+    public String moveName(int move) {
+        return moveNames[move];
+    }
+
+    public int movePower(int move) {
+        return movePower[move];
+    }
+
+    public int moveAccuracy(int move) {
+        return moveAccuracy[move];
+    }
+
+    public int movePp(int move) {
+        return movePp[move];
+    }
+
+    public int movePriority(int move) {
+        return movePriority[move];
+    }
+
+    public String moveDamageClass(int move) {
+        return moveDamageClass[move];
+    }
+
+    public boolean isSpecialMove(int move) {
+        return "special".equalsIgnoreCase(moveDamageClass[move]);
+    }
+
+    public int moveType(int move) {
+        return moveType[move];
+    }
+
+    // --- Especies ---
+    public int speciesCount() {
+        return speciesIds.length;
+    }
+
+    public int speciesOrdinal(String name) {
+        return speciesByName.getOrDefault(normalize(name), -1);
+    }
+
+    public int speciesOrdinalById(Long id) {
+        return id == null ? -1 : speciesById.getOrDefault(id, -1);
+    }
+
+    public long speciesId(int species) {
+        return speciesIds[species];
+    }
+
+    public String speciesName(int species) {
+        return speciesNames[species];
+    }
+
+    public int baseHp(int species) {
+        return baseHp[species];
+    }
+
+    public int baseAttack(int species) {
+        return baseAttack[species];
+    }
+
+    public int baseDefense(int species) {
+        return baseDefense[species];
+    }
+
+    public int baseSpecialAttack(int species) {
+        return baseSpecialAttack[species];
+    }
+
+    public int baseSpecialDefense(int species) {
+        return baseSpecialDefense[species];
+    }
+
+    public int baseSpeed(int species) {
+        return baseSpeed[species];
+    }
+
+    public int[] speciesTypes(int species) {
+        return speciesTypes[species].clone();
+    }
+
+    public boolean hasType(int species, int type) {
+        return Arrays.binarySearch(speciesTypes[species], type) >= 0;
+    }
+
+    public int[] speciesAbilities(int species) {
+        return speciesAbilities[species].clone();
+    }
+
+    /**
+     * Ordinales de los movimientos que puede aprender la especie, en orden.
+     */
+    public int[] learnableMoves(int species) {
+        long[] learnset = learnsets[species];
+        int[] moves = new int[Arrays.stream(learnset).mapToInt(Long::bitCount).sum()];
+        int n = 0;
+        for (int word = 0; word < learnset.length; word++) {
+            long bits = learnset[word];
+            while (bits != 0) {
+                moves[n++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return moves;
+    }
+
+    public boolean canLearn(int species, int move) {
+        return (learnsets[species][move >>> 6] & (1L << move)) != 0;
+    }
+
+    /**
+     * Un moveset es legal si su bitset es subconjunto del learnset de la especie.
+     */
+    public boolean isLegalMoveset(int species, int[] moves) {
+        long[] learnset = learnsets[species];
+        long[] moveset = new long[learnset.length];
+        for (int move : moves) {
+            if (move < 0) {
+                return false;
+            }
+            moveset[move >>> 6] |= 1L << move;
+        }
+        for (int i = 0; i < learnset.length; i++) {
+            if ((moveset[i] & ~learnset[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record NamedRow(long id, String name) {
+
+    }
+
+    private record AbilityRow(long id, String name, String description) {
+
+    }
+
+    private record MoveRow(long id, String name, int power, int accuracy, int pp, int priority, String damageClass, long typeId) {
+
+    }
+
+    private record SpeciesRow(long id, String name, int hp, int attack, int defense, int specialAttack, int specialDefense, int speed) {
+
+    }
+
+    public static final class Builder {
+
+        private final List<NamedRow> types = new ArrayList<>();
+        private final Map<Long, Integer> typesById = new HashMap<>();
+        private final Map<String, Integer> typesByName = new HashMap<>();
+        private final List<double[]> effectiveness = new ArrayList<>();
+
+        private final List<AbilityRow> abilities = new ArrayList<>();
+        private final Map<Long, Integer> abilitiesById = new HashMap<>();
+        private final Map<String, Integer> abilitiesByName = new HashMap<>();
+
+        private final List<MoveRow> moves = new ArrayList<>();
+        private final Map<Long, Integer> movesById = new HashMap<>();
+        private final Map<String, Integer> movesByName = new HashMap<>();
+
+        private final List<SpeciesRow> species = new ArrayList<>();
+        private final Map<Long, Integer> speciesById = new HashMap<>();
+        private final Map<String, Integer> speciesByName = new HashMap<>();
+        private final List<long[]> speciesTypes = new ArrayList<>();
+        private final List<long[]> speciesAbilities = new ArrayList<>();
+        private final List<long[]> learnsets = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addType(long id, String name) {
+            typesById.put(id, types.size());
+            typesByName.put(normalize(name), types.size());
+            types.add(new NamedRow(id, name));
+            return this;
+        }
+
+        public Builder addEffectiveness(long attackingTypeId, long defendingTypeId, double factor) {
+            effectiveness.add(new double[]{attackingTypeId, defendingTypeId, factor});
+            return this;
+        }
+
+        public Builder addAbility(long id, String name, String description) {
+            abilitiesById.put(id, abilities.size());
+            abilitiesByName.put(normalize(name), abilities.size());
+            abilities.add(new AbilityRow(id, name, description));
+            return this;
+        }
+
+        public Builder addMove(long id, String name, int power, int accuracy, int pp, int priority, String damageClass, long typeId) {
+            movesById.put(id, moves.size());
+            movesByName.put(normalize(name), moves.size());
+            moves.add(new MoveRow(id, name, power, accuracy, pp, priority, damageClass, typeId));
+            return this;
+        }
+
+        public Builder addSpecies(long id, String name, int hp, int attack, int defense, int specialAttack, int specialDefense, int speed) {
+            speciesById.put(id, species.size());
+            speciesByName.put(normalize(name), species.size());
+            species.add(new SpeciesRow(id, name, hp, attack, defense, specialAttack, specialDefense, speed));
+            return this;
+        }
+
+        public Builder addSpeciesType(long speciesId, long typeId) {
+            speciesTypes.add(new long[]{speciesId, typeId});
+            return this;
+        }
+
+        public Builder addSpeciesAbility(long speciesId, long abilityId) {
+            speciesAbilities.add(new long[]{speciesId, abilityId});
+            return this;
+        }
+
+        public Builder addLearnableMove(long speciesId, long moveId) {
+            learnsets.add(new long[]{speciesId, moveId});
+            return this;
+        }
+
+        public StaticDataSnapshot build() {
+            return new StaticDataSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.pokemon.game.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binario del snapshot de datos estáticos.
+ *
+ * Cabecera: magic "PKSD", versión del formato, longitud del payload y CRC32
+ * del payload. El payload guarda tipos, efectividades, habilidades,
+ * movimientos, especies y sus relaciones, todo referenciado por ID de BD.
+ *
+ * Luis
+ */
+public final class StaticDataSnapshotFile {
+
+    public static final int MAGIC = 0x504B5344;
+    public static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Integer.BYTES + Long.BYTES;
+
+    private StaticDataSnapshotFile() {
+    }
+
+    public static void write(StaticDataSnapshot data, Path path) throws IOException {
+        byte[] payload = encode(data);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putInt(payload.length)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        // Se escribe a un temporal y se renombra: un lector nunca ve un fichero a medias
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer body = ByteBuffer.wrap(payload);
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, body});
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static StaticDataSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot corrupto: fichero demasiado corto (" + size + " bytes).");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("El fichero no es un snapshot de datos estáticos: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Versión de snapshot no soportada: " + version + " (se esperaba " + FORMAT_VERSION + ").");
+            }
+            int length = buffer.getInt();
+            long expectedCrc = buffer.getLong();
+            if (length != size - HEADER_BYTES) {
+                throw new IOException("Snapshot corrupto: longitud declarada " + length + ", disponible " + (size - HEADER_BYTES) + ".");
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                throw new IOException("Snapshot corrupto: el checksum no coincide.");
+            }
+
+            try {
+                return decode(payload);
+            } catch (RuntimeException e) {
+                throw new IOException("Snapshot corrupto: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static byte[] encode(StaticDataSnapshot data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(data.typeCount());
+        for (int t = 0; t < data.typeCount(); t++) {
+            out.writeLong(data.typeId(t));
+            writeString(out, data.typeName(t));
+        }
+
+        int relations = 0;
+        for (int a = 0; a < data.typeCount(); a++) {
+            for (int d = 0; d < data.typeCount(); d++) {
+                if (data.effectiveness(a, d) != 1.0) {
+                    relations++;
+                }
+            }
+        }
+        out.writeInt(relations);
+        for (int a = 0; a < data.typeCount(); a++) {
+            for (int d = 0; d < data.typeCount(); d++) {
+                double factor = data.effectiveness(a, d);
+                if (factor != 1.0) {
+                    out.writeLong(data.typeId(a));
+                    out.writeLong(data.typeId(d));
+                    out.writeDouble(factor);
+                }
+            }
+        }
+
+        out.writeInt(data.abilityCount());
+        for (int a = 0; a < data.abilityCount(); a++) {
+            out.writeLong(data.abilityId(a));
+            writeString(out, data.abilityName(a));
+            writeString(out, data.abilityDescription(a));
+        }
+
+        out.writeInt(data.moveCount());
+        for (int m = 0; m < data.moveCount(); m++) {
+            out.writeLong(data.moveId(m));
+            writeString(out, data.moveName(m));
+            out.writeInt(data.movePower(m));
+            out.writeInt(data.moveAccuracy(m));
+            out.writeInt(data.movePp(m));
+            out.writeInt(data.movePriority(m));
+            writeString(out, data.moveDamageClass(m));
+            out.writeLong(data.moveType(m) >= 0 ? data.typeId(data.moveType(m)) : -1L);
+        }
+
+        out.writeInt(data.speciesCount());
+        for (int s = 0; s < data.speciesCount(); s++) {
+            out.writeLong(data.speciesId(s));
+            writeString(out, data.speciesName(s));
+            out.writeInt(data.baseHp(s));
+            out.writeInt(data.baseAttack(s));
+            out.writeInt(data.baseDefense(s));
+            out.writeInt(data.baseSpecialAttack(s));
+            out.writeInt(data.baseSpecialDefense(s));
+            out.writeInt(data.baseSpeed(s));
+
+            int[] types = data.speciesTypes(s);
+            out.writeInt(types.length);
+            for (int type : types) {
+                out.writeLong(data.typeId(type));
+            }
+
+            int[] abilities = data.speciesAbilities(s);
+            out.writeInt(abilities.length);
+            for (int ability : abilities) {
+                out.writeLong(data.abilityId(ability));
+            }
+
+            int[] moves = data.learnableMoves(s);
+            out.writeInt(moves.length);
+            for (int move : moves) {
+                out.writeLong(data.moveId(move));
+            }
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static StaticDataSnapshot decode(ByteBuffer in) {
+        StaticDataSnapshot.Builder builder = StaticDataSnapshot.builder();
+
+        int types = in.getInt();
+        for (int i = 0; i < types; i++) {
+            builder.addType(in.getLong(), readString(in));
+        }
+
+        int relations = in.getInt();
+        for (int i = 0; i < relations; i++) {
+            builder.addEffectiveness(in.getLong(), in.getLong(), in.getDouble());
+        }
+
+        int abilities = in.getInt();
+        for (int i = 0; i < abilities; i++) {
+            builder.addAbility(in.getLong(), readString(in), readString(in));
+        }
+
+        int moves = in.getInt();
+        for (int i = 0; i < moves; i++) {
+            builder.addMove(in.getLong(), readString(in), in.getInt(), in.getInt(), in.getInt(), in.getInt(),
+                    readString(in), in.getLong());
+        }
+
+        int species = in.getInt();
+        for (int i = 0; i < species; i++) {
+            long speciesId = in.getLong();
+            builder.addSpecies(speciesId, readString(in), in.getInt(), in.getInt(), in.getInt(), in.getInt(),
+                    in.getInt(), in.getInt());
+
+            int speciesTypes = in.getInt();
+            for (int t = 0; t < speciesTypes; t++) {
+                builder.addSpeciesType(speciesId, in.getLong());
+            }
+            int speciesAbilities = in.getInt();
+            for (int a = 0; a < speciesAbilities; a++) {
+                builder.addSpeciesAbility(speciesId, in.getLong());
+            }
+            int learnset = in.getInt();
+            for (int m = 0; m < learnset; m++) {
+                builder.addLearnableMove(speciesId, in.getLong());
+            }
+        }
+
+        if (in.hasRemaining()) {
+            throw new IllegalStateException(in.remaining() + " bytes sobrantes al final del payload");
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
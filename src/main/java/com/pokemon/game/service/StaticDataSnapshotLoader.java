@@ -0,0 +1,65 @@
+package com.pokemon.game.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Exporta los datos estáticos a un snapshot binario y los vuelve a cargar
+ * desde él, sin llamadas a la PokeAPI. La carga rellena las tablas con el
+ * {@link StaticDataBulkLoader} en una única transacción y publica el registro
+ * directamente desde el fichero.
+ *
+ * Luis
+ */
+@Component
+@Slf4j
+public class StaticDataSnapshotLoader {
+
+    private final StaticDataBulkLoader bulkLoader;
+    private final TransactionTemplate transactionTemplate;
+    private final StaticDataRegistry staticDataRegistry;
+
+    @Value("${game.static-data.snapshot.path:data/static-data.snapshot}")
+    private Path snapshotPath;
+
+    public StaticDataSnapshotLoader(StaticDataBulkLoader bulkLoader,
+            PlatformTransactionManager transactionManager,
+            StaticDataRegistry staticDataRegistry) {
+        this.bulkLoader = bulkLoader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.staticDataRegistry = staticDataRegistry;
+    }
+
+    public boolean isSnapshotAvailable() {
+        return Files.isRegularFile(snapshotPath);
+    }
+
+    /**
+     * Carga el snapshot en una BD sin datos estáticos.
+     */
+    public StaticDataSnapshot loadIntoDatabase() throws IOException {
+        long start = System.currentTimeMillis();
+        StaticDataSnapshot data = StaticDataSnapshotFile.read(snapshotPath);
+        long readMs = System.currentTimeMillis() - start;
+
+        StaticDataBulkLoader.LoadReport report = transactionTemplate.execute(status -> bulkLoader.loadSnapshot(data));
+        staticDataRegistry.publish(data);
+
+        log.info("Snapshot {} cargado: {} tipos, {} habilidades, {} movimientos, {} especies (lectura {} ms, inserts {} ms, total {} ms).",
+                snapshotPath, data.typeCount(), data.abilityCount(), data.moveCount(), data.speciesCount(),
+                readMs, report.elapsedMs(), System.currentTimeMillis() - start);
+        return data;
+    }
+
+    public void export() throws IOException {
+        StaticDataSnapshot data = staticDataRegistry.current();
+        StaticDataSnapshotFile.write(data, snapshotPath);
+        log.info("Snapshot de datos estáticos exportado a {} ({} bytes).", snapshotPath, Files.size(snapshotPath));
+    }
+}
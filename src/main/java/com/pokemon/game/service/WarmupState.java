@@ -0,0 +1,68 @@
+package com.pokemon.game.service;
+
+import com.pokemon.game.dto.WarmupStatusDTO;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estado del calentamiento en segundo plano (snapshot o ingesta de datos
+ * estáticos y carga del registro). Mientras no esté listo, el tráfico de
+ * juego se rechaza y la sonda de readiness informa OUT_OF_SERVICE.
+ *
+ * Luis
+ */
+@Component
+public class WarmupState {
+
+    public enum Phase {
+        STARTING,
+        LOADING_SNAPSHOT,
+        INGESTING,
+        READY,
+        FAILED
+    }
+
+    private final List<String> completed = new CopyOnWriteArrayList<>();
+    private volatile Phase phase = Phase.STARTING;
+    private volatile int totalSteps;
+    private volatile long startedAt = System.currentTimeMillis();
+    private volatile long finishedAt;
+    private volatile String error;
+
+    public void begin(Phase phase, int totalSteps) {
+        this.phase = phase;
+        this.totalSteps = totalSteps;
+        this.completed.clear();
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    public void stepCompleted(String step) {
+        completed.add(step);
+    }
+
+    public void ready() {
+        finishedAt = System.currentTimeMillis();
+        phase = Phase.READY;
+    }
+
+    public void failed(String error) {
+        finishedAt = System.currentTimeMillis();
+        this.error = error;
+        phase = Phase.FAILED;
+    }
+
+    public boolean isReady() {
+        return phase == Phase.READY;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public WarmupStatusDTO status() {
+        long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        List<String> done = List.copyOf(completed);
+        return new WarmupStatusDTO(phase.name(), isReady(), done.size(), totalSteps, done, end - startedAt, error);
+    }
+}
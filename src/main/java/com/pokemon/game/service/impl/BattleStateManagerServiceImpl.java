@@ -1,11 +1,12 @@
 package com.pokemon.game.service.impl;
 
 import com.pokemon.game.model.Player;
+import com.pokemon.game.model.TeamTemplate;
 import com.pokemon.game.repository.PlayerPokemonRepository;
-import com.pokemon.game.repository.StaticMoveDataRepository;
 import com.pokemon.game.service.BattleService;
 import com.pokemon.game.service.IBattleStateManagerService;
 import com.pokemon.game.service.IDamageCalculatorService;
+import com.pokemon.game.service.StaticDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,13 +26,18 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BattleStateManagerServiceImpl implements IBattleStateManagerService {
 
     private final IDamageCalculatorService damageCalculatorService;
-    private final StaticMoveDataRepository moveRepository;
+    private final StaticDataRegistry staticDataRegistry;
     private final PlayerPokemonRepository playerPokemonRepository;
 
     private final Map<UUID, BattleService> activeBattles = new ConcurrentHashMap<>();
 
     @Override
     public BattleService createBattle(UUID lobbyId, List<Player> players) {
+        return createBattle(lobbyId, players, Map.of());
+    }
+
+    @Override
+    public BattleService createBattle(UUID lobbyId, List<Player> players, Map<Long, TeamTemplate> templates) {
         if (activeBattles.containsKey(lobbyId)) {
             log.warn("Intento de crear batalla duplicada para lobby {}", lobbyId);
             return activeBattles.get(lobbyId);
@@ -42,8 +48,9 @@ public class BattleStateManagerServiceImpl implements IBattleStateManagerService
         BattleService newBattle = new BattleService(
                 lobbyId,
                 players,
+                templates,
                 damageCalculatorService,
-                moveRepository,
+                staticDataRegistry,
                 playerPokemonRepository
         );
 
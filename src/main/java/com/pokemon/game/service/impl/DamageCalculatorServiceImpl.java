@@ -2,38 +2,43 @@ package com.pokemon.game.service.impl;
 
 import com.pokemon.game.model.PlayerPokemon;
 import com.pokemon.game.model.StaticMoveData;
-import com.pokemon.game.model.StaticTypeData;
-import com.pokemon.game.repository.StaticMoveDataRepository;
-import com.pokemon.game.repository.StaticTypeDataRepository;
 import com.pokemon.game.service.IDamageCalculatorService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-
 @Service
 @RequiredArgsConstructor
 public class DamageCalculatorServiceImpl implements IDamageCalculatorService {
 
-    private final StaticMoveDataRepository moveRepository;
-    private final StaticTypeDataRepository typeRepository;
+    private final StaticDataRegistry staticDataRegistry;
 
     @Override
     public int calculateDamage(PlayerPokemon attacker, PlayerPokemon defender, StaticMoveData move) {
+        StaticDataSnapshot data = staticDataRegistry.current();
+
+        int attackerSpecies = speciesOf(data, attacker);
+        int defenderSpecies = speciesOf(data, defender);
+        int moveOrdinal = data.moveOrdinalById(move.getId());
+        if (moveOrdinal < 0) {
+            throw new IllegalStateException("Movimiento no registrado en los datos estáticos: " + move.getId());
+        }
 
-        boolean isSpecial = "special".equalsIgnoreCase(move.getDamageClass());
+        boolean isSpecial = data.isSpecialMove(moveOrdinal);
 
-        double attackStat = isSpecial ? attacker.getBasePokemon().getBaseSpecialAttack() : attacker.getBasePokemon().getBaseAttack();
-        double defenseStat = isSpecial ? defender.getBasePokemon().getBaseSpecialDefense() : defender.getBasePokemon().getBaseDefense();
+        double attackStat = isSpecial ? data.baseSpecialAttack(attackerSpecies) : data.baseAttack(attackerSpecies);
+        double defenseStat = isSpecial ? data.baseSpecialDefense(defenderSpecies) : data.baseDefense(defenderSpecies);
 
         int level = attacker.getLevel();
-        int power = move.getPower();
+        int power = data.movePower(moveOrdinal);
+        int moveType = data.moveType(moveOrdinal);
 
         double baseDamage = ((((2.0 * level / 5.0 + 2.0) * attackStat * power / defenseStat) / 50.0) + 2.0);
-        double typeMultiplier = getTypeEffectiveness(move.getType(), defender.getBasePokemon().getTypes());
+        double typeMultiplier = getTypeEffectiveness(data, moveType, defenderSpecies);
 
         double stabMultiplier = 1.0;
-        if (attacker.getBasePokemon().getTypes().contains(move.getType())) {
+        if (moveType >= 0 && data.hasType(attackerSpecies, moveType)) {
             stabMultiplier = 1.5;
         }
 
@@ -47,17 +52,22 @@ public class DamageCalculatorServiceImpl implements IDamageCalculatorService {
         return (int) Math.max(1, totalDamage);
     }
 
-    private double getTypeEffectiveness(StaticTypeData moveType, Set<StaticTypeData> defenderTypes) {
-        double multiplier = 1.0;
+    private int speciesOf(StaticDataSnapshot data, PlayerPokemon pokemon) {
+        int species = data.speciesOrdinalById(pokemon.getBasePokemon().getId());
+        if (species < 0) {
+            throw new IllegalStateException("Especie no registrada en los datos estáticos: " + pokemon.getBasePokemon().getId());
+        }
+        return species;
+    }
+
+    private double getTypeEffectiveness(StaticDataSnapshot data, int moveType, int defenderSpecies) {
+        if (moveType < 0) {
+            return 1.0;
+        }
 
-        for (StaticTypeData defenderType : defenderTypes) {
-            if (defenderType.getDoubleDamageFrom().contains(moveType)) {
-                multiplier *= 2.0;
-            } else if (defenderType.getHalfDamageFrom().contains(moveType)) {
-                multiplier *= 0.5;
-            } else if (defenderType.getNoDamageFrom().contains(moveType)) {
-                multiplier *= 0.0;
-            }
+        double multiplier = 1.0;
+        for (int defenderType : data.speciesTypes(defenderSpecies)) {
+            multiplier *= data.effectiveness(moveType, defenderType);
         }
         return multiplier;
     }
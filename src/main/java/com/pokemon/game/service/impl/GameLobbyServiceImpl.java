@@ -1,22 +1,37 @@
 package com.pokemon.game.service.impl;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.pokemon.game.dto.GameLobbyDTO;
 import com.pokemon.game.dto.TeamSetupDTO;
 import com.pokemon.game.model.GameLobby;
 import com.pokemon.game.model.Player;
+import com.pokemon.game.model.TeamTemplate;
 import com.pokemon.game.model.User;
 import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.service.IBattleStateManagerService;
 import com.pokemon.game.service.IGameLobbyService;
+import com.pokemon.game.service.IMatchHistoryService;
 import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.ITeamPresetService;
 import com.pokemon.game.service.ITeamService;
+import com.pokemon.game.service.LobbySlotRegistry;
 import com.pokemon.game.util.Enums;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  *
@@ -32,6 +47,20 @@ public class GameLobbyServiceImpl implements IGameLobbyService {
     private final ITeamService teamService;
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final LobbySlotRegistry lobbySlotRegistry;
+    private final ITeamPresetService teamPresetService;
+    private final IBattleStateManagerService battleStateManager;
+    private final IMatchHistoryService matchHistoryService;
+
+    // Mismo plazo que las plazas: una selección que nadie completa no se queda para siempre
+    private final Map<UUID, Map<Long, ReadySelection>> readySelections = Caffeine.newBuilder()
+            .expireAfterAccess(LobbySlotRegistry.IDLE_EXPIRY)
+            .<UUID, Map<Long, ReadySelection>>build()
+            .asMap();
+
+    private record ReadySelection(TeamTemplate template) {
+
+    }
 
     @Override
     @Transactional
@@ -87,7 +116,7 @@ public class GameLobbyServiceImpl implements IGameLobbyService {
         Player joiningPlayer = playerService.findOrCreatePlayerForUser(currentUser);
         String joiningUsername = currentUser.getUsername();
 
-        GameLobby lobby = gameLobbyRepository.findById(lobbyId)
+        GameLobby lobby = gameLobbyRepository.findLockedById(lobbyId)
                 .orElseThrow(() -> new IllegalArgumentException("Lobby no encontrado con ID: " + lobbyId));
 
         boolean alreadyInLobby = lobby.getPlayers().stream()
@@ -101,12 +130,19 @@ public class GameLobbyServiceImpl implements IGameLobbyService {
             throw new IllegalStateException("No se puede unir: el lobby ya está en juego o ha terminado.");
         }
 
-        if (lobby.getPlayers().size() >= 2) {
+        if (lobby.getPlayers().size() >= LobbySlotRegistry.LOBBY_CAPACITY
+                || !lobbySlotRegistry.tryClaim(lobbyId, lobby.getPlayers().size())) {
             throw new IllegalStateException("El lobby está lleno.");
         }
+        lobbySlotRegistry.releaseOnRollback(lobbyId);
 
         lobby.addPlayer(joiningPlayer);
-        GameLobby updatedLobby = gameLobbyRepository.save(lobby);
+        GameLobby updatedLobby;
+        try {
+            updatedLobby = gameLobbyRepository.saveAndFlush(lobby);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new IllegalStateException("El lobby cambió mientras te unías. Inténtalo de nuevo.");
+        }
         log.info("Jugador {} se ha unido al lobby {}", joiningUsername, updatedLobby.getId());
 
         GameLobbyDTO updatedLobbyDTO = GameLobbyDTO.fromEntity(updatedLobby);
@@ -132,33 +168,92 @@ public class GameLobbyServiceImpl implements IGameLobbyService {
 
         log.info("Procesando selección de equipo para usuario: {} en lobby: {}", username, lobbyId);
 
-        GameLobby lobby = gameLobbyRepository.findById(lobbyId)
+        GameLobby lobby = gameLobbyRepository.findWithPlayersById(lobbyId)
                 .orElseThrow(() -> new IllegalArgumentException("Lobby no encontrado"));
 
-        boolean isPlayerInLobby = lobby.getPlayers().stream()
-                .anyMatch(p -> p.getUser().getUsername().equals(username));
+        Player player = lobby.getPlayers().stream()
+                .filter(p -> p.getUser().getUsername().equals(username))
+                .findFirst()
+                .orElseThrow(() -> new SecurityException("El jugador no pertenece a este lobby."));
 
-        if (!isPlayerInLobby) {
-            throw new SecurityException("El jugador no pertenece a este lobby.");
+        TeamTemplate template = null;
+        if (teamSetup.presetId() != null) {
+            template = teamPresetService.getTemplate(teamSetup.presetId(), player.getId());
+        } else {
+            teamService.createPlayerTeam(teamSetup);
         }
 
-        teamService.createPlayerTeam(teamSetup);
-
         if (lobby.getStatus() == Enums.GameStatus.WAITING) {
-            lobby.setStatus(Enums.GameStatus.IN_PROGRESS);
-            gameLobbyRepository.save(lobby);
+            gameLobbyRepository.updateStatusIfCurrent(lobbyId, Enums.GameStatus.WAITING, Enums.GameStatus.IN_PROGRESS);
         }
 
-        Map<String, Object> readyMessage = Map.of(
-                "type", "PLAYER_READY",
-                "username", username,
-                "lobbyId", lobbyId
-        );
+        // El aviso y la batalla sólo con el equipo ya confirmado: si la transacción
+        // se revierte no queda una batalla en memoria con filas que no existen
+        TeamTemplate selectedTemplate = template;
+        afterCommit(() -> {
+            Map<String, Object> readyMessage = Map.of(
+                    "type", "PLAYER_READY",
+                    "username", username,
+                    "lobbyId", lobbyId
+            );
+
+            String gameTopic = "/topic/game/" + lobbyId.toString();
+            messagingTemplate.convertAndSend(gameTopic, readyMessage);
+
+            log.info("Equipo guardado y notificación PLAYER_READY enviada a {}", gameTopic);
 
-        String gameTopic = "/topic/game/" + lobbyId.toString();
-        messagingTemplate.convertAndSend(gameTopic, readyMessage);
+            markReadyAndStartBattle(lobby, player, selectedTemplate);
+        });
+    }
 
-        log.info("Equipo guardado y notificación PLAYER_READY enviada a {}", gameTopic);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void markReadyAndStartBattle(GameLobby lobby, Player player, TeamTemplate template) {
+        UUID lobbyId = lobby.getId();
+        Map<Long, ReadySelection> ready = readySelections.computeIfAbsent(lobbyId, id -> new ConcurrentHashMap<>());
+        ready.put(player.getId(), new ReadySelection(template));
+
+        if (lobby.getPlayers().size() < LobbySlotRegistry.LOBBY_CAPACITY || ready.size() < lobby.getPlayers().size()) {
+            return;
+        }
+
+        // Sólo el hilo que retira la entrada crea la batalla
+        if (!readySelections.remove(lobbyId, ready)) {
+            return;
+        }
+
+        Map<Long, TeamTemplate> templates = new HashMap<>();
+        ready.forEach((playerId, selection) -> {
+            if (selection.template() != null) {
+                templates.put(playerId, selection.template());
+            }
+        });
+
+        // Equipos guardados con sus movimientos en una sola consulta; los jugadores con preset
+        // siguen siendo los del lobby
+        List<Long> persistedTeams = lobby.getPlayers().stream()
+                .map(Player::getId)
+                .filter(playerId -> !templates.containsKey(playerId))
+                .toList();
+        Map<Long, Player> withTeams = playerService.loadTeams(persistedTeams).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        List<Player> battlePlayers = lobby.getPlayers().stream()
+                .map(p -> withTeams.getOrDefault(p.getId(), p))
+                .toList();
+
+        battleStateManager.createBattle(lobbyId, battlePlayers, templates);
+        log.info("Todos los jugadores listos en lobby {}. Batalla iniciada ({} equipos desde preset).", lobbyId, templates.size());
     }
 
     @Override
@@ -168,7 +263,15 @@ public class GameLobbyServiceImpl implements IGameLobbyService {
                 .orElseThrow(() -> new IllegalArgumentException("Lobby no encontrado para finalizar"));
 
         lobby.setStatus(Enums.GameStatus.FINISHED);
+        lobby.setFinishedAt(LocalDateTime.now());
         gameLobbyRepository.save(lobby);
+
+        // En la misma transacción: un lobby FINISHED siempre tiene su partida en el historial
+        if (battleStateManager.battleExists(lobbyId)) {
+            matchHistoryService.recordMatch(lobby, battleStateManager.getBattle(lobbyId));
+        }
+        lobbySlotRegistry.forget(lobbyId);
+        readySelections.remove(lobbyId);
         log.info("Lobby {} marcado como FINISHED en base de datos.", lobbyId);
     }
 }
@@ -0,0 +1,169 @@
+package com.pokemon.game.service.impl;
+
+import com.pokemon.game.dto.LeaderboardEntryDTO;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.PlayerRating;
+import com.pokemon.game.repository.PlayerRatingRepository;
+import com.pokemon.game.service.ILeaderboardService;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.LeaderboardIndex;
+import com.pokemon.game.service.LeaderboardIndex.Standing;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rating Elo y victorias/derrotas. Cada resultado actualiza al momento la
+ * clasificación en memoria y marca a los dos jugadores como pendientes; un
+ * volcado periódico escribe los pendientes en player_ratings con dos lotes
+ * JDBC (UPDATE de los que ya tienen fila, INSERT del resto).
+ *
+ * Lo que no se haya volcado se pierde si el proceso muere sin pasar por
+ * {@link #flushOnShutdown()}: como mucho un intervalo de volcado.
+ *
+ * Luis
+ */
+@Service
+@Slf4j
+public class LeaderboardServiceImpl implements ILeaderboardService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PlayerRatingRepository playerRatingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IPlayerService playerService;
+
+    private final LeaderboardIndex index = new LeaderboardIndex();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Long> persisted = ConcurrentHashMap.newKeySet();
+
+    @Value("${game.leaderboard.initial-rating:1000}")
+    private int initialRating;
+
+    @Value("${game.leaderboard.k-factor:32}")
+    private int kFactor;
+
+    public LeaderboardServiceImpl(PlayerRatingRepository playerRatingRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            IPlayerService playerService) {
+        this.playerRatingRepository = playerRatingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.playerService = playerService;
+    }
+
+    @PostConstruct
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        for (PlayerRating rating : playerRatingRepository.findAll()) {
+            index.put(new Standing(rating.getPlayerId(), rating.getUsername(), rating.getRating(),
+                    rating.getWins(), rating.getLosses()));
+            persisted.add(rating.getPlayerId());
+        }
+        log.info("Clasificación reconstruida: {} jugadores en {} ms.", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public synchronized void recordResult(Player winner, Player loser) {
+        Standing w = standingOf(winner);
+        Standing l = standingOf(loser);
+
+        double expectedWin = 1.0 / (1.0 + Math.pow(10, (l.rating() - w.rating()) / 400.0));
+        int delta = (int) Math.round(kFactor * (1.0 - expectedWin));
+
+        index.put(new Standing(w.playerId(), w.username(), w.rating() + delta, w.wins() + 1, w.losses()));
+        index.put(new Standing(l.playerId(), l.username(), l.rating() - delta, l.wins(), l.losses() + 1));
+        dirty.add(w.playerId());
+        dirty.add(l.playerId());
+
+        log.info("Rating: {} +{} ({} -> {}), {} -{}.", w.username(), delta, w.rating(), w.rating() + delta,
+                l.username(), delta);
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTop(int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Página de clasificación no válida (offset >= 0, limit entre 1 y " + MAX_PAGE_SIZE + ").");
+        }
+        return index.page(offset, limit).stream()
+                .map(LeaderboardEntryDTO::fromRanked)
+                .toList();
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> getMyStanding() {
+        Long playerId = playerService.getCurrentPlayer().getId();
+        return index.rankOf(playerId).map(LeaderboardEntryDTO::fromRanked);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${game.leaderboard.flush-interval-ms:5000}",
+            fixedDelayString = "${game.leaderboard.flush-interval-ms:5000}")
+    public int flush() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+
+        // Se saca cada ID antes de leer su estado: si cambia después, vuelve a quedar pendiente
+        List<Long> ids = new ArrayList<>(dirty);
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Long id : ids) {
+            dirty.remove(id);
+            index.get(id).ifPresent(s -> {
+                if (persisted.contains(id)) {
+                    updates.add(new Object[]{s.username(), s.rating(), s.wins(), s.losses(), now, s.playerId()});
+                } else {
+                    inserts.add(new Object[]{s.playerId(), s.username(), s.rating(), s.wins(), s.losses(), now});
+                }
+            });
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate("UPDATE pokemon_game_db.player_ratings SET username = ?, rating = ?, wins = ?, losses = ?, "
+                            + "updated_at = ? WHERE player_id = ?", updates);
+                }
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate("INSERT INTO pokemon_game_db.player_ratings (player_id, username, rating, wins, losses, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)", inserts);
+                }
+            });
+        } catch (RuntimeException e) {
+            dirty.addAll(ids);
+            log.error("No se pudo volcar la clasificación ({} jugadores pendientes).", ids.size(), e);
+            return 0;
+        }
+
+        inserts.forEach(row -> persisted.add((Long) row[0]));
+        log.debug("Clasificación volcada: {} actualizados, {} nuevos.", updates.size(), inserts.size());
+        return updates.size() + inserts.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private Standing standingOf(Player player) {
+        return index.get(player.getId())
+                .orElseGet(() -> new Standing(player.getId(), player.getUser().getUsername(), initialRating, 0, 0));
+    }
+}
@@ -0,0 +1,173 @@
+package com.pokemon.game.service.impl;
+
+import com.pokemon.game.dto.MatchDetailDTO;
+import com.pokemon.game.dto.MatchHistoryPageDTO;
+import com.pokemon.game.dto.MatchSummaryDTO;
+import com.pokemon.game.model.GameLobby;
+import com.pokemon.game.model.MatchHistory;
+import com.pokemon.game.model.MatchParticipant;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.repository.MatchHistoryRepository;
+import com.pokemon.game.repository.MatchParticipantRepository;
+import com.pokemon.game.service.BattleService;
+import com.pokemon.game.service.IMatchHistoryService;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.MatchTurnLog;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ *
+ * Luis
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchHistoryServiceImpl implements IMatchHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime KEYSET_END = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final UUID KEYSET_END_ID = new UUID(-1L, -1L);
+    private static final String CURSOR_SEPARATOR = "_";
+
+    private final MatchHistoryRepository matchHistoryRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final IPlayerService playerService;
+    private final StaticDataRegistry staticDataRegistry;
+
+    @Override
+    @Transactional
+    public void recordMatch(GameLobby lobby, BattleService battle) {
+        if (matchHistoryRepository.existsById(lobby.getId())) {
+            log.warn("La partida {} ya estaba en el historial; no se vuelve a guardar.", lobby.getId());
+            return;
+        }
+
+        // Milisegundos: es la precisión de la columna y la del cursor
+        Instant finished = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant started = battle.getStartedAt().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime finishedAt = LocalDateTime.ofInstant(finished, ZoneId.systemDefault());
+        MatchTurnLog turnLog = battle.getTurnLog();
+
+        matchHistoryRepository.save(MatchHistory.builder()
+                .id(lobby.getId())
+                .isPublic(lobby.isPublic())
+                .winnerPlayerId(battle.getWinnerId())
+                .turnCount(turnLog.turnCount())
+                .startedAt(LocalDateTime.ofInstant(started, ZoneId.systemDefault()))
+                .finishedAt(finishedAt)
+                .durationMs(Duration.between(started, finished).toMillis())
+                .turnLog(turnLog.compress())
+                .build());
+
+        List<MatchParticipant> participants = new ArrayList<>();
+        List<Long> sides = battle.getSides();
+        for (int side = 0; side < sides.size(); side++) {
+            Player player = battle.getPlayersMap().get(sides.get(side));
+            participants.add(MatchParticipant.builder()
+                    .matchId(lobby.getId())
+                    .playerId(player.getId())
+                    .side(side)
+                    .username(player.getUser().getUsername())
+                    .won(player.getId().equals(battle.getWinnerId()))
+                    .finishedAt(finishedAt)
+                    .build());
+        }
+        matchParticipantRepository.saveAll(participants);
+
+        log.info("Partida {} guardada en el historial: {} turnos en {} ms.", lobby.getId(), turnLog.turnCount(),
+                Duration.between(started, finished).toMillis());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MatchHistoryPageDTO getMyHistory(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE + ".");
+        }
+
+        LocalDateTime beforeFinishedAt = KEYSET_END;
+        UUID beforeId = KEYSET_END_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(CURSOR_SEPARATOR, 2);
+            try {
+                beforeFinishedAt = LocalDateTime.parse(parts[0]);
+                beforeId = UUID.fromString(parts[1]);
+            } catch (DateTimeParseException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de historial no válido.");
+            }
+        }
+
+        Long playerId = playerService.getCurrentPlayer().getId();
+        List<MatchSummaryDTO> page = matchParticipantRepository.findPageBefore(
+                playerId, beforeFinishedAt, beforeId, Limit.of(limit));
+
+        String nextCursor = null;
+        if (page.size() == limit) {
+            MatchSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = last.finishedAt() + CURSOR_SEPARATOR + last.matchId();
+        }
+        return new MatchHistoryPageDTO(page, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MatchDetailDTO getMatch(UUID matchId) {
+        Long playerId = playerService.getCurrentPlayer().getId();
+        List<MatchParticipant> participants = matchParticipantRepository.findByMatchIdOrderBySide(matchId);
+        if (participants.stream().noneMatch(p -> p.getPlayerId().equals(playerId))) {
+            throw new IllegalArgumentException("Partida no encontrada: " + matchId);
+        }
+
+        MatchHistory match = matchHistoryRepository.findById(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("Partida no encontrada: " + matchId));
+
+        StaticDataSnapshot data = staticDataRegistry.current();
+        List<MatchDetailDTO.Turn> turns = MatchTurnLog.decompress(match.getTurnLog()).stream()
+                .map(turn -> new MatchDetailDTO.Turn(
+                        participants.get(turn.side()).getUsername(),
+                        moveName(data, turn.moveId()),
+                        turn.attackerSlot(),
+                        turn.defenderSlot(),
+                        turn.damage(),
+                        turn.defenderHpAfter()))
+                .toList();
+
+        String winner = participants.stream()
+                .filter(p -> Objects.equals(p.getPlayerId(), match.getWinnerPlayerId()))
+                .map(MatchParticipant::getUsername)
+                .findFirst()
+                .orElse(null);
+
+        return new MatchDetailDTO(
+                match.getId(),
+                participants.stream().map(MatchParticipant::getUsername).toList(),
+                winner,
+                match.getTurnCount(),
+                match.getDurationMs(),
+                match.getStartedAt(),
+                match.getFinishedAt(),
+                turns
+        );
+    }
+
+    private static String moveName(StaticDataSnapshot data, long moveId) {
+        int move = data.moveOrdinalById(moveId);
+        return move >= 0 ? data.moveName(move) : "#" + moveId;
+    }
+}
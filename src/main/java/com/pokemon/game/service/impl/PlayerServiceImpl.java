@@ -3,12 +3,15 @@ package com.pokemon.game.service.impl;
 import com.pokemon.game.model.Player;
 import com.pokemon.game.model.User;
 import com.pokemon.game.repository.PlayerRepository;
-import com.pokemon.game.repository.UserRepository;
 import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.IdentityCache;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  *
@@ -18,30 +21,56 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PlayerServiceImpl implements IPlayerService {
 
-    private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
+    private final IdentityCache identityCache;
 
+    // Copia desacoplada desde la caché de identidades: sin consulta ni transacción en un acierto
     @Override
     public User getCurrentAuthenticatedUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + username));
+        return identityCache.get(currentUsername()).toUser();
     }
 
+    // Referencia por ID: sólo se carga si quien llama usa algo más que el ID
     @Override
     public Player getCurrentPlayer() {
+        String username = currentUsername();
+        Long playerId = identityCache.playerId(username);
+        if (playerId == null) {
+            throw new RuntimeException("Jugador no encontrado para el usuario: " + username);
+        }
+        return playerRepository.getReferenceById(playerId);
+    }
+
+    @Override
+    public Player getCurrentPlayerWithTeam() {
         User currentUser = getCurrentAuthenticatedUser();
-        return playerRepository.findByUser(currentUser)
+        return playerRepository.findWithTeamByUser(currentUser)
                 .orElseThrow(() -> new RuntimeException("Jugador no encontrado para el usuario: " + currentUser.getUsername()));
     }
 
+    // Se llama tras el commit de la selección de equipo: transacción propia y en el primario,
+    // donde el equipo recién guardado ya es visible
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Player> loadTeams(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+        return playerRepository.findWithTeamByIdIn(playerIds);
+    }
+
     @Override
     public Player findOrCreatePlayerForUser(User user) {
         return playerRepository.findByUser(user).orElseGet(() -> {
             Player newPlayer = Player.builder()
                     .user(user)
                     .build();
+            identityCache.invalidate(user.getUsername());
             return playerRepository.save(newPlayer);
         });
     }
+
+    private String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 }
@@ -0,0 +1,196 @@
+package com.pokemon.game.service.impl;
+
+import com.pokemon.game.dto.TeamPresetDTO;
+import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.TeamPreset;
+import com.pokemon.game.model.TeamPresetMove;
+import com.pokemon.game.model.TeamTemplate;
+import com.pokemon.game.repository.StaticMoveDataRepository;
+import com.pokemon.game.repository.StaticPokemonDataRepository;
+import com.pokemon.game.repository.TeamPresetRepository;
+import com.pokemon.game.request.TeamPresetRequest;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.ITeamPresetService;
+import com.pokemon.game.service.ITeamService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ *
+ * Luis
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamPresetServiceImpl implements ITeamPresetService {
+
+    private static final int TEAM_SIZE = 6;
+
+    private final IPlayerService playerService;
+    private final TeamPresetRepository teamPresetRepository;
+    private final StaticPokemonDataRepository staticPokemonDataRepository;
+    private final StaticMoveDataRepository staticMoveDataRepository;
+    private final StaticDataRegistry staticDataRegistry;
+    private final ITeamService teamService;
+
+    private final Map<Long, TeamTemplate> templates = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public TeamPresetDTO savePreset(TeamPresetRequest request) {
+        Player currentPlayer = playerService.getCurrentPlayer();
+
+        if (request.name() == null || request.name().isBlank() || request.name().length() > 50) {
+            throw new IllegalArgumentException("El nombre del equipo debe tener entre 1 y 50 caracteres.");
+        }
+        if (request.pokemonNames() == null || request.pokemonNames().size() != TEAM_SIZE) {
+            throw new IllegalArgumentException("Se requiere un equipo de exactamente 6 Pokémon.");
+        }
+        if (teamPresetRepository.existsByPlayerIdAndName(currentPlayer.getId(), request.name())) {
+            throw new IllegalArgumentException("Ya existe un equipo guardado con el nombre: " + request.name());
+        }
+
+        if (request.moveSets() == null) {
+            throw new IllegalArgumentException("Se requiere un moveset por cada Pokémon del equipo.");
+        }
+
+        // Mismas reglas que un equipo normal: especies y movesets contra el registro estático
+        List<String> errors = teamService.validateTeams(List.of(
+                new TeamSetupDTO(request.pokemonNames(), request.moveSets(), null))).get(0).errors();
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.get(0));
+        }
+
+        Set<String> names = request.pokemonNames().stream()
+                .map(this::normalize)
+                .collect(Collectors.toSet());
+        Map<String, StaticPokemonData> species = staticPokemonDataRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(data -> normalize(data.getName()), Function.identity()));
+
+        List<StaticPokemonData> members = new ArrayList<>(TEAM_SIZE);
+        for (String pokemonName : request.pokemonNames()) {
+            StaticPokemonData staticData = species.get(normalize(pokemonName));
+            if (staticData == null) {
+                throw new IllegalArgumentException("Pokémon no encontrado: " + pokemonName);
+            }
+            members.add(staticData);
+        }
+
+        StaticDataSnapshot data = staticDataRegistry.current();
+        Set<TeamPresetMove> moves = new LinkedHashSet<>();
+        for (int slot = 1; slot <= request.moveSets().size(); slot++) {
+            List<String> moveSet = request.moveSets().get(slot - 1);
+            for (int position = 1; position <= moveSet.size(); position++) {
+                int move = data.moveOrdinal(moveSet.get(position - 1));
+                moves.add(TeamPresetMove.builder()
+                        .slotPosition(slot)
+                        .movePosition(position)
+                        .staticMoveData(staticMoveDataRepository.getReferenceById(data.moveId(move)))
+                        .build());
+            }
+        }
+
+        TeamPreset preset = teamPresetRepository.save(TeamPreset.builder()
+                .name(request.name())
+                .player(currentPlayer)
+                .members(members)
+                .moves(moves)
+                .build());
+
+        templates.put(preset.getId(), toTemplate(preset, currentPlayer.getId()));
+        log.info("Equipo guardado '{}' (ID {}) para el jugador {}", preset.getName(), preset.getId(), currentPlayer.getId());
+
+        return TeamPresetDTO.fromEntity(preset);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamPresetDTO> getMyPresets() {
+        Player currentPlayer = playerService.getCurrentPlayer();
+        return teamPresetRepository.findByPlayerIdOrderByName(currentPlayer.getId()).stream()
+                .map(TeamPresetDTO::fromEntity)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deletePreset(Long presetId) {
+        Player currentPlayer = playerService.getCurrentPlayer();
+        TeamPreset preset = teamPresetRepository.findWithMembersById(presetId)
+                .orElseThrow(() -> new IllegalArgumentException("Equipo guardado no encontrado: " + presetId));
+
+        if (!preset.getPlayer().getId().equals(currentPlayer.getId())) {
+            throw new SecurityException("El equipo guardado no pertenece al jugador.");
+        }
+
+        teamPresetRepository.delete(preset);
+        templates.remove(presetId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamTemplate getTemplate(Long presetId, Long playerId) {
+        TeamTemplate template = templates.get(presetId);
+
+        if (template == null) {
+            TeamPreset preset = teamPresetRepository.findWithMembersById(presetId)
+                    .orElseThrow(() -> new IllegalArgumentException("Equipo guardado no encontrado: " + presetId));
+            template = templates.computeIfAbsent(presetId, id -> toTemplate(preset, preset.getPlayer().getId()));
+        }
+
+        if (!template.playerId().equals(playerId)) {
+            throw new SecurityException("El equipo guardado no pertenece al jugador.");
+        }
+        // Presets guardados antes de que se almacenaran los movimientos
+        if (template.members().stream().anyMatch(member -> member.moves().isEmpty())) {
+            throw new IllegalStateException("El equipo guardado no tiene movimientos. Vuelve a guardarlo con sus movesets.");
+        }
+        return template;
+    }
+
+    /**
+     * Los PP salen del registro estático; los movimientos quedan como
+     * referencias, de las que la batalla sólo necesita el ID.
+     */
+    private TeamTemplate toTemplate(TeamPreset preset, Long playerId) {
+        StaticDataSnapshot data = staticDataRegistry.current();
+        Map<Integer, List<TeamTemplate.Move>> movesBySlot = new HashMap<>();
+        for (TeamPresetMove move : preset.getMoves()) {
+            StaticMoveData moveData = move.getStaticMoveData();
+            int moveOrdinal = data.moveOrdinalById(moveData.getId());
+            int pp = moveOrdinal >= 0 ? data.movePp(moveOrdinal) : moveData.getPp();
+            movesBySlot.computeIfAbsent(move.getSlotPosition(), slot -> new ArrayList<>())
+                    .add(new TeamTemplate.Move(moveData, pp));
+        }
+
+        List<TeamTemplate.Member> members = new ArrayList<>(preset.getMembers().size());
+        int slot = 1;
+        for (StaticPokemonData species : preset.getMembers()) {
+            members.add(new TeamTemplate.Member(slot, species, movesBySlot.getOrDefault(slot, List.of())));
+            slot++;
+        }
+        return new TeamTemplate(preset.getId(), playerId, preset.getName(), members);
+    }
+
+    private String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,20 +2,31 @@ package com.pokemon.game.service.impl;
 
 import com.pokemon.game.model.Player;
 import com.pokemon.game.model.PlayerPokemon;
+import com.pokemon.game.model.PokemonMove;
+import com.pokemon.game.model.StaticMoveData;
 import com.pokemon.game.model.StaticPokemonData;
 import com.pokemon.game.repository.PlayerPokemonRepository;
+import com.pokemon.game.repository.StaticMoveDataRepository;
 import com.pokemon.game.repository.StaticPokemonDataRepository;
 import com.pokemon.game.dto.PlayerPokemonDTO;
 import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.dto.TeamValidationResultDTO;
 import com.pokemon.game.service.IPlayerService;
 import com.pokemon.game.service.ITeamService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
 import com.pokemon.game.util.Enums;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,24 +36,44 @@ public class TeamServiceImpl implements ITeamService {
     private final IPlayerService playerService;
     private final PlayerPokemonRepository playerPokemonRepository;
     private final StaticPokemonDataRepository staticPokemonDataRepository;
+    private final StaticMoveDataRepository staticMoveDataRepository;
+    private final StaticDataRegistry staticDataRegistry;
+
+    private static final int TEAM_SIZE = 6;
+    private static final int MAX_MOVES = 4;
+    private static final int MAX_BULK_VALIDATION = 10_000;
 
     @Override
     @Transactional
     public List<PlayerPokemonDTO> createPlayerTeam(TeamSetupDTO request) {
-        Player currentPlayer = playerService.getCurrentPlayer();
+        // El equipo anterior se borra por orphanRemoval: viene cargado con sus movimientos
+        Player currentPlayer = playerService.getCurrentPlayerWithTeam();
 
-        if (request.pokemonNames() == null || request.pokemonNames().size() != 6) {
+        if (request.pokemonNames() == null || request.pokemonNames().size() != TEAM_SIZE) {
             throw new IllegalArgumentException("Se requiere un equipo de exactamente 6 Pokémon.");
         }
 
+        StaticDataSnapshot data = staticDataRegistry.current();
+
+        List<String> moveErrors = validateMoveSets(data, request);
+        if (!moveErrors.isEmpty()) {
+            throw new IllegalArgumentException(moveErrors.get(0));
+        }
+
+        Map<String, StaticPokemonData> species = resolveSpecies(data, request.pokemonNames());
+        Map<String, StaticMoveData> moves = resolveMoves(data, request.moveSets());
+
         List<PlayerPokemon> newTeam = new ArrayList<>();
         int slot = 1;
 
         for (String pokemonName : request.pokemonNames()) {
-            StaticPokemonData staticData = staticPokemonDataRepository.findByName(pokemonName)
-                    .orElseThrow(() -> new IllegalArgumentException("Pokémon no encontrado: " + pokemonName));
+            StaticPokemonData staticData = species.get(normalize(pokemonName));
+            if (staticData == null) {
+                throw new IllegalArgumentException("Pokémon no encontrado: " + pokemonName);
+            }
 
-            int maxHp = staticData.getBaseHp();
+            int speciesOrdinal = data.speciesOrdinalById(staticData.getId());
+            int maxHp = speciesOrdinal >= 0 ? data.baseHp(speciesOrdinal) : staticData.getBaseHp();
 
             PlayerPokemon newInstance = PlayerPokemon.builder()
                     .player(currentPlayer)
@@ -53,6 +84,22 @@ public class TeamServiceImpl implements ITeamService {
                     .slot(slot++)
                     .build();
 
+            if (request.moveSets() != null) {
+                for (String moveName : request.moveSets().get(newTeam.size())) {
+                    StaticMoveData moveData = moves.get(normalize(moveName));
+                    if (moveData == null) {
+                        throw new IllegalArgumentException("Movimiento no encontrado: " + moveName);
+                    }
+                    int moveOrdinal = data.moveOrdinalById(moveData.getId());
+                    int pp = moveOrdinal >= 0 ? data.movePp(moveOrdinal) : moveData.getPp();
+                    newInstance.addMove(PokemonMove.builder()
+                            .staticMoveData(moveData)
+                            .currentPp(pp)
+                            .maxPp(pp)
+                            .build());
+                }
+            }
+
             newTeam.add(newInstance);
         }
 
@@ -62,7 +109,126 @@ public class TeamServiceImpl implements ITeamService {
         currentPlayer.getTeam().addAll(newTeam);
 
         return newTeam.stream()
-                .map(PlayerPokemonDTO::fromEntity)
+                .map(pokemon -> PlayerPokemonDTO.fromEntity(pokemon, data))
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<TeamValidationResultDTO> validateTeams(List<TeamSetupDTO> teams) {
+        if (teams == null || teams.size() > MAX_BULK_VALIDATION) {
+            throw new IllegalArgumentException("Se pueden validar como máximo " + MAX_BULK_VALIDATION + " equipos por petición.");
+        }
+
+        StaticDataSnapshot data = staticDataRegistry.current();
+        List<TeamValidationResultDTO> results = new ArrayList<>(teams.size());
+        for (int i = 0; i < teams.size(); i++) {
+            List<String> errors = validateTeam(data, teams.get(i));
+            results.add(new TeamValidationResultDTO(i, errors.isEmpty(), errors));
+        }
+        return results;
+    }
+
+    /**
+     * Valida un equipo sólo contra el registro estático, sin tocar la BD.
+     */
+    private List<String> validateTeam(StaticDataSnapshot data, TeamSetupDTO team) {
+        if (team == null || team.pokemonNames() == null || team.pokemonNames().size() != TEAM_SIZE) {
+            return List.of("Se requiere un equipo de exactamente 6 Pokémon.");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (String pokemonName : team.pokemonNames()) {
+            if (data.speciesOrdinal(pokemonName) < 0) {
+                errors.add("Pokémon no encontrado: " + pokemonName);
+            }
+        }
+        if (errors.isEmpty()) {
+            errors.addAll(validateMoveSets(data, team));
+        }
+        return errors;
+    }
+
+    private List<String> validateMoveSets(StaticDataSnapshot data, TeamSetupDTO team) {
+        if (team.moveSets() == null) {
+            return List.of();
+        }
+        if (team.moveSets().size() != team.pokemonNames().size()) {
+            return List.of("Se requiere un moveset por cada Pokémon del equipo.");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < team.pokemonNames().size(); i++) {
+            String pokemonName = team.pokemonNames().get(i);
+            List<String> moveSet = team.moveSets().get(i);
+
+            if (moveSet == null || moveSet.isEmpty() || moveSet.size() > MAX_MOVES) {
+                errors.add("El moveset de " + pokemonName + " debe tener entre 1 y 4 movimientos.");
+            } else if (new HashSet<>(moveSet.stream().map(this::normalize).toList()).size() != moveSet.size()) {
+                errors.add("El moveset de " + pokemonName + " tiene movimientos repetidos.");
+            } else if (!isLegalMoveset(data, pokemonName, moveSet)) {
+                errors.add("Moveset ilegal para " + pokemonName + ": " + String.join(", ", moveSet));
+            }
+        }
+        return errors;
+    }
+
+    private boolean isLegalMoveset(StaticDataSnapshot data, String pokemonName, List<String> moveSet) {
+        int species = data.speciesOrdinal(pokemonName);
+        if (species < 0) {
+            return false;
+        }
+        int[] moves = moveSet.stream().mapToInt(data::moveOrdinal).toArray();
+        return data.isLegalMoveset(species, moves);
+    }
+
+    /**
+     * Los movimientos conocidos por el registro se enlazan por referencia, sin
+     * SELECT; sólo los que falten se cargan con una única consulta IN.
+     */
+    private Map<String, StaticMoveData> resolveMoves(StaticDataSnapshot data, List<List<String>> moveSets) {
+        if (moveSets == null) {
+            return Map.of();
+        }
+
+        Map<String, StaticMoveData> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String name : moveSets.stream().flatMap(List::stream).map(this::normalize).collect(Collectors.toSet())) {
+            int move = data.moveOrdinal(name);
+            if (move >= 0) {
+                resolved.put(name, staticMoveDataRepository.getReferenceById(data.moveId(move)));
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            staticMoveDataRepository.findByNameIn(missing)
+                    .forEach(move -> resolved.put(normalize(move.getName()), move));
+        }
+        return resolved;
+    }
+
+    private Map<String, StaticPokemonData> resolveSpecies(StaticDataSnapshot data, List<String> pokemonNames) {
+        Map<String, StaticPokemonData> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String pokemonName : pokemonNames) {
+            String name = normalize(pokemonName);
+            int species = data.speciesOrdinal(name);
+            if (species >= 0) {
+                resolved.put(name, staticPokemonDataRepository.getReferenceById(data.speciesId(species)));
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            staticPokemonDataRepository.findByNameIn(missing)
+                    .forEach(species -> resolved.put(normalize(species.getName()), species));
+        }
+        return resolved;
+    }
+
+    private String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
 }
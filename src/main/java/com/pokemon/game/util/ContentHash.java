@@ -0,0 +1,46 @@
+package com.pokemon.game.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Hash estable de 64 bits del contenido de un registro (primeros 8 bytes del
+ * SHA-256 de sus campos en forma canónica).
+ *
+ * @author Luis
+ */
+public final class ContentHash {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private ContentHash() {
+    }
+
+    public static long of(Object... fields) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object field : fields) {
+            canonical.append(field instanceof Collection<?> values ? sorted(values) : String.valueOf(field));
+            canonical.append(SEPARATOR);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    // Las colecciones se ordenan para que el hash no dependa del orden upstream
+    private static String sorted(Collection<?> values) {
+        return values.stream()
+                .map(String::valueOf)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,36 @@
+package com.pokemon.game.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID versión 7 (RFC 9562): 48 bits de milisegundos, 12 bits de secuencia
+ * dentro del mismo milisegundo y 62 bits aleatorios. Guardados como
+ * BINARY(16) crecen en orden, así que los inserts caen al final del índice.
+ *
+ * @author Luis
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // (milisegundos << 12) | secuencia del último ID emitido
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis();
+        long stamp = LAST.updateAndGet(previous -> Math.max(previous + 1, now << 12));
+
+        long mostSigBits = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
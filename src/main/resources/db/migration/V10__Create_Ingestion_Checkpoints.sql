@@ -0,0 +1,7 @@
+-- Última página confirmada de cada etapa de ingesta paginada.
+-- Si existe fila, la etapa quedó a medias y se reanuda desde last_id.
+CREATE TABLE ingestion_checkpoints (
+    stage VARCHAR(32) NOT NULL PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
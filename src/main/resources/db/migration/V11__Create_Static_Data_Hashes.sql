@@ -0,0 +1,15 @@
+-- Hash del contenido upstream de cada registro estático, por etapa de ingesta.
+-- En modo incremental sólo se escriben los registros cuyo hash ha cambiado.
+CREATE TABLE static_data_hashes (
+    stage VARCHAR(32) NOT NULL,
+    record_key VARCHAR(255) NOT NULL,
+    content_hash BIGINT NOT NULL,
+    PRIMARY KEY (stage, record_key)
+);
+
+-- Hash agregado de cada etapa, para detectar de un vistazo si algo cambió
+CREATE TABLE ingestion_stage_hashes (
+    stage VARCHAR(32) NOT NULL PRIMARY KEY,
+    content_hash BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
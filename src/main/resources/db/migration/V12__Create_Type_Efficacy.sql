@@ -0,0 +1,25 @@
+-- Tabla de efectividades entre tipos: un solo escaneo al cargar el registro.
+-- factor en porcentaje como en la PokeAPI (200 = doble, 50 = mitad, 0 = inmune);
+-- sólo se guardan las combinaciones distintas de 100, que es el valor por defecto.
+CREATE TABLE type_efficacy (
+    attacking_type_id BIGINT NOT NULL,
+    defending_type_id BIGINT NOT NULL,
+    factor SMALLINT NOT NULL,
+    PRIMARY KEY (attacking_type_id, defending_type_id),
+    FOREIGN KEY (attacking_type_id) REFERENCES static_type_data(id),
+    FOREIGN KEY (defending_type_id) REFERENCES static_type_data(id)
+);
+
+-- Las tablas antiguas guardan (tipo defensor, tipo atacante)
+INSERT INTO type_efficacy (attacking_type_id, defending_type_id, factor)
+SELECT double_damage_from_id, static_type_data_id, 200 FROM type_double_damage_from;
+
+INSERT INTO type_efficacy (attacking_type_id, defending_type_id, factor)
+SELECT half_damage_from_id, static_type_data_id, 50 FROM type_half_damage_from;
+
+INSERT INTO type_efficacy (attacking_type_id, defending_type_id, factor)
+SELECT no_damage_from_id, static_type_data_id, 0 FROM type_no_damage_from;
+
+DROP TABLE type_double_damage_from;
+DROP TABLE type_half_damage_from;
+DROP TABLE type_no_damage_from;
@@ -0,0 +1,25 @@
+-- IDs de lobby de CHAR(36) a BINARY(16): la PK y el índice de players.game_lobby_id
+-- ocupan menos y se comparan como bytes. Los lobbies nuevos usan UUID v7 (ordenados
+-- por tiempo); los existentes se convierten sin reordenar bytes con UUID_TO_BIN.
+
+ALTER TABLE players DROP FOREIGN KEY players_ibfk_2;
+DROP INDEX idx_game_lobbies_status_created ON game_lobbies;
+
+ALTER TABLE game_lobbies ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE game_lobbies SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE players ADD COLUMN game_lobby_id_bin BINARY(16) NULL;
+UPDATE players SET game_lobby_id_bin = UUID_TO_BIN(game_lobby_id) WHERE game_lobby_id IS NOT NULL;
+
+ALTER TABLE game_lobbies
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE players
+    DROP COLUMN game_lobby_id,
+    CHANGE COLUMN game_lobby_id_bin game_lobby_id BINARY(16) NULL AFTER user_id,
+    ADD CONSTRAINT fk_players_game_lobby FOREIGN KEY (game_lobby_id) REFERENCES game_lobbies(id);
+
+CREATE INDEX idx_game_lobbies_status_created ON game_lobbies (status, created_at, id);
@@ -0,0 +1,11 @@
+-- players, users y roles pasan de IDENTITY al optimizador pooled de id_generators,
+-- para que el registro y la creación de lobbies puedan agrupar sus INSERT.
+-- Mismo margen que en V8 sobre el MAX(id) actual para no reutilizar claves existentes.
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'players', COALESCE(MAX(id), 0) + 51 FROM players;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 51 FROM users;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'roles', COALESCE(MAX(id), 0) + 51 FROM roles;
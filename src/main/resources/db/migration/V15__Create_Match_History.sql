@@ -0,0 +1,27 @@
+-- Historial de partidas: una fila por batalla terminada (misma ID que el lobby)
+-- con el registro de turnos comprimido, y una fila por participante. El índice
+-- (player_id, finished_at, match_id) sirve la paginación por clave del historial.
+
+CREATE TABLE match_history (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    is_public BOOLEAN NOT NULL,
+    winner_player_id BIGINT NULL,
+    turn_count INT NOT NULL,
+    started_at DATETIME(3) NOT NULL,
+    finished_at DATETIME(3) NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    turn_log BLOB NOT NULL
+);
+
+CREATE TABLE match_participants (
+    match_id BINARY(16) NOT NULL,
+    player_id BIGINT NOT NULL,
+    side INT NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    won BOOLEAN NOT NULL,
+    finished_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (match_id, player_id),
+    CONSTRAINT fk_match_participants_match FOREIGN KEY (match_id) REFERENCES match_history(id)
+);
+
+CREATE INDEX idx_match_participants_player_finished ON match_participants (player_id, finished_at, match_id);
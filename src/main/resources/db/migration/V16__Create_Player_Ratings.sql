@@ -0,0 +1,12 @@
+-- Rating Elo y victorias/derrotas por jugador. La clasificación vive en memoria
+-- y se vuelca aquí por lotes; al arrancar se reconstruye leyendo esta tabla.
+
+CREATE TABLE player_ratings (
+    player_id BIGINT NOT NULL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    rating INT NOT NULL,
+    wins INT NOT NULL,
+    losses INT NOT NULL,
+    updated_at DATETIME(3) NOT NULL,
+    CONSTRAINT fk_player_ratings_player FOREIGN KEY (player_id) REFERENCES players(id)
+);
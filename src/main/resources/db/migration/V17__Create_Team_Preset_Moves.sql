@@ -0,0 +1,10 @@
+-- Movimientos de cada miembro de un equipo guardado, validados al guardar el preset
+CREATE TABLE team_preset_moves (
+    team_preset_id BIGINT NOT NULL,
+    slot_position INT NOT NULL,
+    move_position INT NOT NULL,
+    static_move_id BIGINT NOT NULL,
+    PRIMARY KEY (team_preset_id, slot_position, move_position),
+    FOREIGN KEY (team_preset_id) REFERENCES team_presets(id),
+    FOREIGN KEY (static_move_id) REFERENCES static_move_data(id)
+);
@@ -0,0 +1,11 @@
+-- Momento en que terminó la partida: la gracia antes de archivar un lobby
+-- FINISHED cuenta desde aquí y no desde su creación. Los ya terminados toman
+-- la hora de su historial o, si no lo tienen, la de esta migración.
+ALTER TABLE game_lobbies ADD COLUMN finished_at DATETIME(6) NULL;
+
+UPDATE game_lobbies l
+    LEFT JOIN match_history m ON m.id = l.id
+    SET l.finished_at = COALESCE(m.finished_at, CURRENT_TIMESTAMP(6))
+    WHERE l.status = 'FINISHED';
+
+CREATE INDEX idx_game_lobbies_status_finished ON game_lobbies (status, finished_at, id);
@@ -0,0 +1,3 @@
+-- Sólo las relaciones entre tipos usan un hash de etapa; el resto se decide
+-- por los hashes de cada registro y sus valores guardados ya no se mantienen.
+DELETE FROM ingestion_stage_hashes WHERE stage <> 'TYPE_RELATIONS';
@@ -0,0 +1,2 @@
+-- Columna de versión para el bloqueo optimista de game_lobbies
+ALTER TABLE game_lobbies ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Fecha de creación para poder caducar lobbies abandonados
+ALTER TABLE game_lobbies ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- Índice para recorrer lobbies por estado y antigüedad con paginación por clave
+CREATE INDEX idx_game_lobbies_status_created ON game_lobbies (status, created_at, id);
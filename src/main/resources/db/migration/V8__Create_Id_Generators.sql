@@ -0,0 +1,14 @@
+-- Tabla de generadores de IDs (optimizador pooled de Hibernate).
+-- Con IDENTITY Hibernate desactiva el batching de inserts; con esta tabla
+-- reserva bloques de 50 IDs y puede agrupar los INSERT en un solo lote.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- Cada valor inicial deja margen sobre el MAX(id) actual para no reutilizar claves existentes
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'player_pokemons', COALESCE(MAX(id), 0) + 51 FROM player_pokemons;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'player_pokemon_moves', COALESCE(MAX(id), 0) + 51 FROM player_pokemon_moves;
@@ -0,0 +1,18 @@
+-- Equipos guardados por jugador, reutilizables entre batallas
+CREATE TABLE team_presets (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    player_id BIGINT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_team_presets_player_name (player_id, name),
+    FOREIGN KEY (player_id) REFERENCES players(id)
+);
+
+CREATE TABLE team_preset_pokemon (
+    team_preset_id BIGINT NOT NULL,
+    slot_position INT NOT NULL,
+    static_pokemon_id BIGINT NOT NULL,
+    PRIMARY KEY (team_preset_id, slot_position),
+    FOREIGN KEY (team_preset_id) REFERENCES team_presets(id),
+    FOREIGN KEY (static_pokemon_id) REFERENCES static_pokemon_data(id)
+);
@@ -0,0 +1,106 @@
+package com.pokemon.game;
+
+import com.pokemon.game.config.StompTokenInterceptor;
+import com.pokemon.game.config.TokenAuthenticationFilter;
+import com.pokemon.game.service.AuthTokenCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tokens firmados del modo sin estado: verificación local, rechazo de tokens
+ * alterados o caducados, y su uso en REST (filtro) y en el CONNECT de STOMP.
+ */
+public class AuthTokenTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+    private final AuthTokenCodec codec = codecAt(NOW);
+    private final Authentication ash = UsernamePasswordAuthenticationToken.authenticated(
+            "Ash", null, AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Token: ida y vuelta con roles; alterado, de otra clave o caducado no vale")
+    void testIssueAndVerify() {
+        String token = codec.issue(ash).token();
+
+        Authentication verified = codec.verify(token).orElseThrow();
+        assertEquals("Ash", verified.getName());
+        assertTrue(verified.isAuthenticated());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), AuthorityUtils.authorityListToSet(verified.getAuthorities()));
+
+        String forged = token.replaceFirst("ROLE_USER", "ROLE_USEX");
+        assertTrue(codec.verify(forged).isEmpty());
+        assertTrue(codec.verify("no-es-un-token").isEmpty());
+        assertTrue(new AuthTokenCodec("fedcba9876543210fedcba9876543210".getBytes(), Duration.ofMinutes(15),
+                Clock.fixed(NOW, ZoneOffset.UTC)).verify(token).isEmpty());
+        assertTrue(codecAt(NOW.plus(Duration.ofMinutes(14))).verify(token).isPresent());
+        assertTrue(codecAt(NOW.plus(Duration.ofMinutes(15))).verify(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("REST y STOMP: Bearer autentica la petición y el CONNECT; sin token el CONNECT se rechaza")
+    void testFilterAndStompConnect() throws Exception {
+        String token = codec.issue(ash).token();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/game/leaderboard");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        new TokenAuthenticationFilter(codec).doFilter(request, new MockHttpServletResponse(), chain);
+        assertEquals("Ash", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertNull(request.getSession(false));
+
+        StompTokenInterceptor interceptor = new StompTokenInterceptor(codec);
+        MessageChannel channel = mock(MessageChannel.class);
+
+        Message<?> connected = interceptor.preSend(connect("Bearer " + token), channel);
+        Principal user = StompHeaderAccessor.wrap(connected).getUser();
+        assertNotNull(user);
+        assertEquals("Ash", user.getName());
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect(null), channel));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect("Bearer " + token + "x"), channel));
+    }
+
+    private static Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static AuthTokenCodec codecAt(Instant now) {
+        return new AuthTokenCodec(SECRET, Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,31 @@
+package com.pokemon.game;
+
+import com.pokemon.game.util.ContentHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentHashTest {
+
+    @Test
+    @DisplayName("Hash: estable e independiente del orden de las colecciones")
+    void testStableAndOrderIndependent() {
+        long first = ContentHash.of("pikachu", 35, List.of("electric"), List.of("thunderbolt", "quick-attack"));
+        long second = ContentHash.of("pikachu", 35, Set.of("electric"), List.of("quick-attack", "thunderbolt"));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Hash: cambia si cambia cualquier campo o se desplaza un separador")
+    void testDetectsChanges() {
+        long base = ContentHash.of("thunderbolt", 90, 100, 15);
+
+        assertNotEquals(base, ContentHash.of("thunderbolt", 95, 100, 15));
+        assertNotEquals(ContentHash.of("ab", "c"), ContentHash.of("a", "bc"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.GameLobbyDTO;
+import com.pokemon.game.model.GameLobby;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.PlayerPokemon;
+import com.pokemon.game.model.PokemonMove;
+import com.pokemon.game.model.Role;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.StaticTypeData;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.repository.UserRepository;
+import com.pokemon.game.util.Enums;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Número fijo de consultas por caso de uso sobre H2: equipo, inicio de
+ * batalla, DTO del lobby y búsqueda del jugador. Si alguna asociación vuelve
+ * a ser EAGER o se pierde un grafo, el conteo sube con el tamaño del equipo.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+public class FetchPlanQueryCountTest {
+
+    private static final int TEAM_SIZE = 6;
+    private static final int MOVES_PER_POKEMON = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private GameLobbyRepository gameLobbyRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private UUID lobbyId;
+    private List<Long> playerIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Role role = entityManager.persist(Role.builder().name("ROLE_USER").build());
+        StaticTypeData electric = entityManager.persist(StaticTypeData.builder().name("electric").build());
+        StaticPokemonData pikachu = entityManager.persist(StaticPokemonData.builder()
+                .name("pikachu").baseHp(35).baseAttack(55).baseDefense(40)
+                .baseSpecialAttack(50).baseSpecialDefense(50).baseSpeed(90).build());
+        List<StaticMoveData> moves = List.of(move("thunderbolt", electric), move("thunder", electric),
+                move("spark", electric), move("thunder-shock", electric));
+        moves.forEach(entityManager::persist);
+
+        GameLobby lobby = GameLobby.builder().status(Enums.GameStatus.IN_PROGRESS).isPublic(true).build();
+        for (String username : List.of("Ash", "Gary")) {
+            User user = entityManager.persist(User.builder()
+                    .username(username).password("x").email(username + "@pokemon.test").roles(Set.of(role)).build());
+            Player player = Player.builder().user(user).build();
+            for (int slot = 1; slot <= TEAM_SIZE; slot++) {
+                PlayerPokemon pokemon = PlayerPokemon.builder()
+                        .player(player).basePokemon(pikachu).currentHp(35).slot(slot).build();
+                moves.subList(0, MOVES_PER_POKEMON).forEach(move -> pokemon.addMove(PokemonMove.builder()
+                        .staticMoveData(move).currentPp(15).maxPp(15).build()));
+                player.getTeam().add(pokemon);
+            }
+            lobby.addPlayer(player);
+        }
+        entityManager.persist(lobby);
+        entityManager.flush();
+        entityManager.clear();
+
+        lobbyId = lobby.getId();
+        playerIds = lobby.getPlayers().stream().map(Player::getId).toList();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("DTO del lobby: jugadores y nombres de usuario en una sola consulta")
+    void testLobbyDtoIsOneQuery() {
+        GameLobbyDTO dto = GameLobbyDTO.fromEntity(gameLobbyRepository.findLockedById(lobbyId).orElseThrow());
+
+        assertEquals(List.of("Ash", "Gary"), dto.playerNames().stream().sorted().toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Inicio de batalla: lobby con usuarios + equipos con movimientos = 2 consultas")
+    void testBattleStartIsTwoQueries() {
+        GameLobby lobby = gameLobbyRepository.findWithPlayersById(lobbyId).orElseThrow();
+        List<Player> withTeams = playerRepository.findWithTeamByIdIn(playerIds);
+        // La batalla usa estos Player ya fuera de la sesión
+        entityManager.clear();
+
+        assertEquals(2, lobby.getPlayers().size());
+        int moves = 0;
+        for (Player player : withTeams) {
+            assertNotNull(player.getUser().getUsername());
+            assertEquals(TEAM_SIZE, player.getTeam().size());
+            for (PlayerPokemon pokemon : player.getTeam()) {
+                assertNotNull(pokemon.getBasePokemon().getId());
+                for (PokemonMove move : pokemon.getMoves()) {
+                    assertNotNull(move.getStaticMoveData().getId());
+                    moves++;
+                }
+            }
+        }
+
+        assertEquals(2 * TEAM_SIZE * MOVES_PER_POKEMON, moves);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Carga de equipo: equipo y movimientos del jugador en una sola consulta")
+    void testTeamLoadIsOneQuery() {
+        User ash = userRepository.findByUsername("Ash").orElseThrow();
+        statistics.clear();
+
+        Player player = playerRepository.findWithTeamByUser(ash).orElseThrow();
+        int moves = player.getTeam().stream().mapToInt(pokemon -> pokemon.getMoves().size()).sum();
+
+        assertEquals(TEAM_SIZE * MOVES_PER_POKEMON, moves);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Jugador y credenciales: ID por nombre de usuario y roles con una consulta cada uno")
+    void testPlayerLookupsAreOneQueryEach() {
+        assertTrue(playerRepository.findIdByUsername("Gary").isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        User user = userRepository.findWithRolesByUsername("Ash").orElseThrow();
+        assertEquals(Set.of("ROLE_USER"), user.getRoles().stream().map(Role::getName).collect(java.util.stream.Collectors.toSet()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static StaticMoveData move(String name, StaticTypeData type) {
+        return StaticMoveData.builder().name(name).power(90).accuracy(100).pp(15).priority(0)
+                .damageClass("special").type(type).build();
+    }
+}
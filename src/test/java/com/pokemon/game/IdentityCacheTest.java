@@ -0,0 +1,128 @@
+package com.pokemon.game;
+
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.Role;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.repository.UserRepository;
+import com.pokemon.game.service.IdentityCache;
+import com.pokemon.game.service.UserDetailsServiceImpl;
+import com.pokemon.game.service.impl.PlayerServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Caché de identidades: autenticar y resolver el usuario/jugador actual una y
+ * otra vez consulta la BD una sola vez; cambiar la contraseña o crear el
+ * jugador invalida la entrada.
+ */
+public class IdentityCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserRepository userRepository;
+    private PlayerRepository playerRepository;
+    private UserDetailsServiceImpl userDetailsService;
+    private PlayerServiceImpl playerService;
+    private User ash;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        playerRepository = mock(PlayerRepository.class);
+        IdentityCache identityCache = new IdentityCache(userRepository, playerRepository, meterRegistry, 100, Duration.ofMinutes(5));
+        userDetailsService = new UserDetailsServiceImpl(userRepository, identityCache);
+        playerService = new PlayerServiceImpl(playerRepository, identityCache);
+
+        ash = User.builder().id(7L).username("Ash").email("ash@pokemon.test").password("hash-1")
+                .roles(Set.of(Role.builder().id(1L).name("ROLE_USER").build())).build();
+        when(userRepository.findWithRolesByUsername("Ash")).thenReturn(Optional.of(ash));
+        when(userRepository.findByUsername("Ash")).thenReturn(Optional.of(ash));
+        when(playerRepository.findIdByUsername("Ash")).thenReturn(Optional.of(70L));
+        when(playerRepository.getReferenceById(anyLong())).thenAnswer(i -> Player.builder().id(i.getArgument(0)).build());
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("Ash", null, "ROLE_USER"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Aciertos: UserDetails, usuario y jugador actual sin repetir consultas, con métricas de hit/miss")
+    void testRepeatedLookupsHitTheCache() {
+        for (int i = 0; i < 10; i++) {
+            UserDetails details = userDetailsService.loadUserByUsername("Ash");
+            assertEquals("hash-1", details.getPassword());
+            assertEquals(Set.of("ROLE_USER"), AuthorityUtils.authorityListToSet(details.getAuthorities()));
+            assertEquals(7L, playerService.getCurrentAuthenticatedUser().getId());
+            assertEquals(70L, playerService.getCurrentPlayer().getId());
+        }
+
+        verify(userRepository, times(1)).findWithRolesByUsername("Ash");
+        verify(playerRepository, times(1)).findIdByUsername("Ash");
+        assertNotSame(playerService.getCurrentAuthenticatedUser(), playerService.getCurrentAuthenticatedUser());
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "identity").tag("result", "miss").functionCounter().count());
+        assertEquals(31.0, meterRegistry.get("cache.gets").tag("cache", "identity").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Invalidación: contraseña nueva y jugador recién creado se ven al momento; los inexistentes no se cachean")
+    void testInvalidation() {
+        assertEquals("hash-1", userDetailsService.loadUserByUsername("Ash").getPassword());
+        when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+        userDetailsService.updatePassword(userDetailsService.loadUserByUsername("Ash"), "hash-2");
+        assertEquals("hash-2", userDetailsService.loadUserByUsername("Ash").getPassword());
+
+        User misty = User.builder().id(8L).username("Misty").email("misty@pokemon.test").password("x").build();
+        when(userRepository.findWithRolesByUsername("Misty")).thenReturn(Optional.of(misty));
+        when(playerRepository.findIdByUsername("Misty")).thenReturn(Optional.empty());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("Misty", null, "ROLE_USER"));
+        assertThrows(RuntimeException.class, () -> playerService.getCurrentPlayer());
+
+        when(playerRepository.findByUser(any(User.class))).thenReturn(Optional.empty());
+        when(playerRepository.save(any(Player.class))).thenAnswer(i -> i.getArgument(0));
+        playerService.findOrCreatePlayerForUser(playerService.getCurrentAuthenticatedUser());
+        when(playerRepository.findIdByUsername("Misty")).thenReturn(Optional.of(80L));
+        assertEquals(80L, playerService.getCurrentPlayer().getId());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("Gary"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("Gary"));
+        verify(userRepository, times(2)).findWithRolesByUsername("Gary");
+    }
+
+    @Test
+    @DisplayName("Jugador creado en otro nodo: el ID ausente no queda en caché durante el TTL")
+    void testMissingPlayerIdIsResolvedLazily() {
+        User brock = User.builder().id(9L).username("Brock").email("brock@pokemon.test").password("x").build();
+        when(userRepository.findWithRolesByUsername("Brock")).thenReturn(Optional.of(brock));
+        when(playerRepository.findIdByUsername("Brock")).thenReturn(Optional.empty());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("Brock", null, "ROLE_USER"));
+        assertThrows(RuntimeException.class, () -> playerService.getCurrentPlayer());
+
+        // Otro nodo crea el jugador: aquí no se invalida nada
+        when(playerRepository.findIdByUsername("Brock")).thenReturn(Optional.of(90L));
+        assertEquals(90L, playerService.getCurrentPlayer().getId());
+        assertEquals(90L, playerService.getCurrentPlayer().getId());
+
+        verify(userRepository, times(1)).findWithRolesByUsername("Brock");
+        verify(playerRepository, times(3)).findIdByUsername("Brock");
+    }
+}
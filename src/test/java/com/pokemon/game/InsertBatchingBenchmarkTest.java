@@ -0,0 +1,193 @@
+package com.pokemon.game;
+
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.PlayerPokemon;
+import com.pokemon.game.model.PokemonMove;
+import com.pokemon.game.model.Role;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.StaticTypeData;
+import com.pokemon.game.model.User;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Viajes a la BD (ejecuciones JDBC) al registrar un jugador y al crear un
+ * equipo de 6 Pokémon con 4 movimientos, sin batching (lo que imponía
+ * IDENTITY: un INSERT por fila) y con los generadores de tabla actuales.
+ *
+ * Sólo corre con -Pbenchmark.
+ */
+@Tag("benchmark")
+@Slf4j
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+public class InsertBatchingBenchmarkTest {
+
+    private static final AtomicInteger ROUND_TRIPS = new AtomicInteger();
+    private static final int RUNS = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Role role;
+    private StaticPokemonData pikachu;
+    private List<StaticMoveData> moves;
+    private final AtomicInteger users = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        role = persist(Role.builder().name("ROLE_USER").build());
+        StaticTypeData electric = persist(StaticTypeData.builder().name("electric").build());
+        pikachu = persist(StaticPokemonData.builder().name("pikachu").baseHp(35).baseAttack(55).baseDefense(40)
+                .baseSpecialAttack(50).baseSpecialDefense(50).baseSpeed(90).build());
+        moves = List.of("thunderbolt", "thunder", "spark", "thunder-shock").stream()
+                .map(name -> persist(StaticMoveData.builder().name(name).power(90).accuracy(100).pp(15)
+                        .priority(0).damageClass("special").type(electric).build()))
+                .toList();
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Benchmark: viajes a la BD por registro y por creación de equipo, con y sin batching")
+    void benchmarkRoundTrips() {
+        // Primera pasada para que los generadores reserven su bloque de IDs
+        measure(1, this::register);
+        measure(1, session -> createTeam(register(session)));
+
+        double registerUnbatched = measure(1, this::register);
+        double registerBatched = measure(null, this::register);
+        double teamUnbatched = measure(1, session -> createTeam(registerWithoutCounting()));
+        double teamBatched = measure(null, session -> createTeam(registerWithoutCounting()));
+
+        log.info("Viajes a la BD por operación (media de {}):", RUNS);
+        log.info("  registro (usuario + jugador): sin batching {}, con batching {}",
+                String.format("%.1f", registerUnbatched), String.format("%.1f", registerBatched));
+        log.info("  equipo (6 Pokémon, 24 movimientos): sin batching {}, con batching {}",
+                String.format("%.1f", teamUnbatched), String.format("%.1f", teamBatched));
+
+        assertTrue(teamBatched < teamUnbatched);
+        assertTrue(registerBatched <= registerUnbatched);
+    }
+
+    private double measure(Integer batchSize, Consumer<Session> operation) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        int total = 0;
+        try {
+            for (int i = 0; i < RUNS; i++) {
+                entityManager.flush();
+                ROUND_TRIPS.set(0);
+                operation.accept(session);
+                entityManager.flush();
+                total += ROUND_TRIPS.get();
+                entityManager.clear();
+            }
+        } finally {
+            session.setJdbcBatchSize(null);
+        }
+        return (double) total / RUNS;
+    }
+
+    private Player register(Session session) {
+        User user = persist(User.builder().username("trainer" + users.incrementAndGet()).password("x")
+                .email("trainer" + users.get() + "@pokemon.test").roles(Set.of(entityManager.merge(role))).build());
+        return persist(Player.builder().user(user).build());
+    }
+
+    private Player registerWithoutCounting() {
+        Player player = register(null);
+        entityManager.flush();
+        ROUND_TRIPS.set(0);
+        return player;
+    }
+
+    private void createTeam(Player player) {
+        StaticPokemonData species = entityManager.getReference(StaticPokemonData.class, pikachu.getId());
+        for (int slot = 1; slot <= 6; slot++) {
+            PlayerPokemon pokemon = PlayerPokemon.builder()
+                    .player(player).basePokemon(species).currentHp(35).slot(slot).build();
+            for (StaticMoveData move : moves) {
+                pokemon.addMove(PokemonMove.builder()
+                        .staticMoveData(entityManager.getReference(StaticMoveData.class, move.getId()))
+                        .currentPp(15).maxPp(15).build());
+            }
+            entityManager.persist(pokemon);
+        }
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    @TestConfiguration
+    static class RoundTripCounting {
+
+        // Cuenta cada execute*/executeBatch: con batching, un lote es un solo viaje
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? proxy(DataSource.class, dataSource)
+                            : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    ROUND_TRIPS.incrementAndGet();
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection) {
+                    return proxy(Connection.class, connection);
+                }
+                if (result instanceof Statement statement) {
+                    return proxy((Class<Statement>) statementType(method.getReturnType()), statement);
+                }
+                return result;
+            });
+            return type.cast(proxy);
+        }
+
+        private static Class<?> statementType(Class<?> declared) {
+            return Statement.class.isAssignableFrom(declared) ? declared : Statement.class;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.LeaderboardEntryDTO;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.PlayerRatingRepository;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.LeaderboardIndex;
+import com.pokemon.game.service.LeaderboardIndex.Standing;
+import com.pokemon.game.service.impl.LeaderboardServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Clasificación: la skip list contra una lista ordenada de referencia, y el
+ * volcado por lotes a player_ratings con reconstrucción posterior sobre H2.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+public class LeaderboardTest {
+
+    private static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::rating).reversed()
+            .thenComparingLong(Standing::playerId);
+
+    @Autowired
+    private PlayerRatingRepository playerRatingRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Skip list: posición y páginas iguales a ordenar, tras miles de altas y cambios de rating")
+    void testIndexMatchesSortedReference() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        Map<Long, Standing> reference = new HashMap<>();
+        Random random = new Random(46);
+
+        for (int i = 0; i < 5_000; i++) {
+            long playerId = random.nextInt(800);
+            Standing standing = new Standing(playerId, "p" + playerId, 800 + random.nextInt(400), i, 0);
+            index.put(standing);
+            reference.put(playerId, standing);
+        }
+
+        List<Standing> sorted = new ArrayList<>(reference.values());
+        sorted.sort(ORDER);
+
+        assertEquals(sorted.size(), index.size());
+        for (int rank = 1; rank <= sorted.size(); rank++) {
+            Standing expected = sorted.get(rank - 1);
+            assertEquals(rank, index.rankOf(expected.playerId()).orElseThrow().rank());
+        }
+        assertEquals(sorted.subList(0, 10), index.page(0, 10).stream().map(LeaderboardIndex.Ranked::standing).toList());
+        assertEquals(sorted.subList(sorted.size() - 5, sorted.size()),
+                index.page(sorted.size() - 5, 10).stream().map(LeaderboardIndex.Ranked::standing).toList());
+        assertTrue(index.page(sorted.size(), 10).isEmpty());
+        assertTrue(index.rankOf(10_000).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Elo: resultados en memoria, volcado por lotes y reconstrucción idéntica desde la BD")
+    void testFlushAndRebuild() {
+        LeaderboardServiceImpl service = service();
+        Player ash = player(1L, "Ash");
+        Player gary = player(2L, "Gary");
+        Player misty = player(3L, "Misty");
+
+        service.recordResult(ash, gary);
+        assertEquals(2, service.flush());
+        service.recordResult(ash, misty);
+        service.recordResult(gary, misty);
+        assertEquals(3, service.flush());
+        assertEquals(0, service.flush());
+
+        List<LeaderboardEntryDTO> top = service.getTop(0, 10);
+        assertEquals(List.of("Ash", "Gary", "Misty"), top.stream().map(LeaderboardEntryDTO::username).toList());
+        assertEquals(1016 + 15, top.get(0).rating());
+        assertEquals(2, top.get(0).wins());
+        assertEquals(2, top.get(2).losses());
+        assertEquals(3000, top.stream().mapToInt(LeaderboardEntryDTO::rating).sum());
+
+        assertEquals(top, service().getTop(0, 10));
+        assertEquals(3, playerRatingRepository.count());
+        assertThrows(IllegalArgumentException.class, () -> service.getTop(0, 101));
+    }
+
+    private LeaderboardServiceImpl service() {
+        LeaderboardServiceImpl service = new LeaderboardServiceImpl(playerRatingRepository, jdbcTemplate,
+                transactionManager, mock(IPlayerService.class));
+        ReflectionTestUtils.setField(service, "initialRating", 1000);
+        ReflectionTestUtils.setField(service, "kFactor", 32);
+        ReflectionTestUtils.invokeMethod(service, "rebuild");
+        return service;
+    }
+
+    private static Player player(long id, String username) {
+        return Player.builder().id(id).user(User.builder().username(username).build()).build();
+    }
+}
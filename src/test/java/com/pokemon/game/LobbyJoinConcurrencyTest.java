@@ -0,0 +1,186 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.model.GameLobby;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.service.IBattleStateManagerService;
+import com.pokemon.game.service.IMatchHistoryService;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.ITeamPresetService;
+import com.pokemon.game.service.ITeamService;
+import com.pokemon.game.service.LobbySlotRegistry;
+import com.pokemon.game.service.impl.GameLobbyServiceImpl;
+import com.pokemon.game.util.Enums;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LobbyJoinConcurrencyTest {
+
+    private static final int THREADS = 200;
+    private static final int JOIN_ATTEMPTS = 600;
+
+    @Mock
+    private GameLobbyRepository gameLobbyRepository;
+    @Mock
+    private IPlayerService playerService;
+    @Mock
+    private ITeamService teamService;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private ITeamPresetService teamPresetService;
+    @Mock
+    private IBattleStateManagerService battleStateManager;
+    @Mock
+    private IMatchHistoryService matchHistoryService;
+
+    private GameLobbyServiceImpl gameLobbyService;
+
+    private final ThreadLocal<User> currentUser = new ThreadLocal<>();
+    private final AtomicLong playerIds = new AtomicLong(100);
+
+    private UUID lobbyId;
+    private Player host;
+
+    @BeforeEach
+    void setUp() {
+        gameLobbyService = new GameLobbyServiceImpl(
+                gameLobbyRepository, playerService, teamService, messagingTemplate, new LobbySlotRegistry(),
+                teamPresetService, battleStateManager, matchHistoryService);
+
+        lobbyId = UUID.randomUUID();
+        host = Player.builder().id(1L).user(User.builder().username("Host").build()).build();
+
+        lenient().when(playerService.getCurrentAuthenticatedUser()).thenAnswer(i -> currentUser.get());
+        lenient().when(playerService.findOrCreatePlayerForUser(any(User.class))).thenAnswer(i -> Player.builder()
+                .id(playerIds.incrementAndGet())
+                .user(i.getArgument(0))
+                .build());
+
+        // Cada transacción ve su propia copia del lobby con sólo el anfitrión, como ocurriría
+        // con lecturas concurrentes antes de que ningún commit sea visible.
+        lenient().when(gameLobbyRepository.findLockedById(lobbyId)).thenAnswer(i -> Optional.of(GameLobby.builder()
+                .id(lobbyId)
+                .status(Enums.GameStatus.WAITING)
+                .isPublic(false)
+                .players(new ArrayList<>(List.of(host)))
+                .build()));
+        lenient().when(gameLobbyRepository.saveAndFlush(any(GameLobby.class))).thenAnswer(i -> i.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Concurrencia: cientos de hilos compitiendo por un lobby sólo llenan una plaza")
+    void testConcurrentJoinsNeverOverfillLobby() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(JOIN_ATTEMPTS);
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejectedAsFull = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        for (int i = 0; i < JOIN_ATTEMPTS; i++) {
+            String username = "Trainer" + i;
+            executor.submit(() -> {
+                try {
+                    currentUser.set(User.builder().username(username).build());
+                    startGate.await();
+                    gameLobbyService.joinLobby(lobbyId);
+                    joined.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    if ("El lobby está lleno.".equals(e.getMessage())) {
+                        rejectedAsFull.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    currentUser.remove();
+                    finished.countDown();
+                }
+            });
+        }
+
+        startGate.countDown();
+        assertTrue(finished.await(30, TimeUnit.SECONDS), "Los hilos no terminaron a tiempo");
+        executor.shutdownNow();
+
+        assertEquals(1, joined.get(), "Sólo un jugador puede ocupar la segunda plaza");
+        assertEquals(JOIN_ATTEMPTS - 1, rejectedAsFull.get());
+        assertEquals(0, unexpected.get());
+        verify(gameLobbyRepository, times(1)).saveAndFlush(any(GameLobby.class));
+    }
+
+    @Test
+    @DisplayName("Concurrencia: los dos jugadores confirman equipo a la vez; el lobby pasa a IN_PROGRESS una vez y sin conflicto de versión")
+    void testConcurrentReadyStartsOnce() throws Exception {
+        Player guest = Player.builder().id(2L).user(User.builder().username("Guest").build()).build();
+        AtomicReference<Enums.GameStatus> persistedStatus = new AtomicReference<>(Enums.GameStatus.WAITING);
+
+        // Ambas transacciones leen el lobby en WAITING antes de que ninguna confirme
+        when(gameLobbyRepository.findWithPlayersById(lobbyId)).thenAnswer(i -> Optional.of(GameLobby.builder()
+                .id(lobbyId)
+                .status(Enums.GameStatus.WAITING)
+                .isPublic(false)
+                .players(new ArrayList<>(List.of(host, guest)))
+                .build()));
+        when(gameLobbyRepository.updateStatusIfCurrent(lobbyId, Enums.GameStatus.WAITING, Enums.GameStatus.IN_PROGRESS))
+                .thenAnswer(i -> persistedStatus.compareAndSet(Enums.GameStatus.WAITING, Enums.GameStatus.IN_PROGRESS) ? 1 : 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> submissions = new ArrayList<>();
+        for (Player player : List.of(host, guest)) {
+            submissions.add(executor.submit(() -> {
+                currentUser.set(player.getUser());
+                try {
+                    startGate.await();
+                    gameLobbyService.processTeamSelection(lobbyId, new TeamSetupDTO(List.of("1", "2", "3", "4", "5", "6")));
+                } finally {
+                    currentUser.remove();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> submission : submissions) {
+            submission.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        assertEquals(Enums.GameStatus.IN_PROGRESS, persistedStatus.get());
+        verify(gameLobbyRepository, times(2)).updateStatusIfCurrent(lobbyId, Enums.GameStatus.WAITING, Enums.GameStatus.IN_PROGRESS);
+        verify(gameLobbyRepository, never()).save(any(GameLobby.class));
+        verify(battleStateManager, times(1)).createBattle(eq(lobbyId), anyList(), anyMap());
+    }
+}
@@ -0,0 +1,35 @@
+package com.pokemon.game;
+
+import com.pokemon.game.service.LobbySlotRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plazas en memoria: un lobby lleno que nadie vuelve a tocar no se queda en el
+ * registro, y al volver a usarse el contador parte de lo persistido.
+ */
+public class LobbySlotRegistryTest {
+
+    @Test
+    @DisplayName("Registro de plazas: la entrada sin uso caduca y se rehace desde los jugadores persistidos")
+    void testIdleEntriesExpire() {
+        AtomicLong nanos = new AtomicLong();
+        LobbySlotRegistry registry = new LobbySlotRegistry(nanos::get);
+        UUID lobbyId = UUID.randomUUID();
+
+        assertTrue(registry.tryClaim(lobbyId, 1));
+        assertFalse(registry.tryClaim(lobbyId, 1));
+
+        nanos.addAndGet(LobbySlotRegistry.IDLE_EXPIRY.plus(Duration.ofMinutes(1)).toNanos());
+
+        // Sin la entrada vieja el contador parte otra vez de los jugadores persistidos
+        assertTrue(registry.tryClaim(lobbyId, 1));
+        assertFalse(registry.tryClaim(lobbyId, 1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.MatchSummaryDTO;
+import com.pokemon.game.model.MatchHistory;
+import com.pokemon.game.model.MatchParticipant;
+import com.pokemon.game.repository.MatchParticipantRepository;
+import com.pokemon.game.service.MatchTurnLog;
+import com.pokemon.game.util.TimeOrderedUuid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Historial de partidas sobre H2: registro de turnos comprimido y páginas por
+ * clave (finished_at, match_id) sin saltos ni repeticiones, también cuando
+ * varias partidas terminan en el mismo milisegundo.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+public class MatchHistoryTest {
+
+    private static final long ASH = 1L;
+    private static final long GARY = 2L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private MatchParticipantRepository matchParticipantRepository;
+
+    @Test
+    @DisplayName("Registro de turnos: ida y vuelta exacta y más pequeño que sin comprimir")
+    void testTurnLogRoundTrip() {
+        MatchTurnLog log = new MatchTurnLog();
+        List<MatchTurnLog.Turn> turns = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            MatchTurnLog.Turn turn = new MatchTurnLog.Turn(i % 2, 1 + i % 6, 1 + (i / 2) % 6, 85 + i % 4, 40 + i, Math.max(0, 300 - 7 * i));
+            turns.add(turn);
+            log.append(turn);
+        }
+
+        byte[] compressed = log.compress();
+
+        assertEquals(60, log.turnCount());
+        assertEquals(turns, MatchTurnLog.decompress(compressed));
+        assertTrue(compressed.length < 60 * 5, "comprimido: " + compressed.length + " bytes");
+        assertThrows(IllegalArgumentException.class, () -> MatchTurnLog.decompress(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("Historial por clave: páginas descendentes completas, con rival, empates de fecha incluidos")
+    void testKeysetPagination() {
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 12, 0);
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Tres pares de partidas comparten finished_at: el desempate es la ID
+            LocalDateTime finishedAt = base.plusMinutes(i / 2);
+            UUID id = TimeOrderedUuid.next();
+            match(id, finishedAt, i % 2 == 0 ? ASH : GARY);
+            expected.add(0, id);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MatchSummaryDTO> seen = new ArrayList<>();
+        LocalDateTime beforeFinishedAt = LocalDateTime.of(9999, 12, 31, 23, 59);
+        UUID beforeId = new UUID(-1L, -1L);
+        List<MatchSummaryDTO> page;
+        do {
+            page = matchParticipantRepository.findPageBefore(ASH, beforeFinishedAt, beforeId, Limit.of(3));
+            seen.addAll(page);
+            if (!page.isEmpty()) {
+                beforeFinishedAt = page.get(page.size() - 1).finishedAt();
+                beforeId = page.get(page.size() - 1).matchId();
+            }
+        } while (page.size() == 3);
+
+        assertEquals(expected, seen.stream().map(MatchSummaryDTO::matchId).toList());
+        assertTrue(seen.stream().allMatch(summary -> "Gary".equals(summary.opponent())));
+        assertEquals(4, seen.stream().filter(MatchSummaryDTO::won).count());
+    }
+
+    private void match(UUID id, LocalDateTime finishedAt, long winner) {
+        entityManager.persist(MatchHistory.builder()
+                .id(id).isPublic(true).winnerPlayerId(winner).turnCount(12)
+                .startedAt(finishedAt.minusMinutes(3)).finishedAt(finishedAt).durationMs(180_000)
+                .turnLog(new MatchTurnLog().compress())
+                .build());
+        entityManager.persist(participant(id, ASH, 0, "Ash", winner == ASH, finishedAt));
+        entityManager.persist(participant(id, GARY, 1, "Gary", winner == GARY, finishedAt));
+    }
+
+    private static MatchParticipant participant(UUID matchId, long playerId, int side, String username,
+            boolean won, LocalDateTime finishedAt) {
+        return MatchParticipant.builder().matchId(matchId).playerId(playerId).side(side)
+                .username(username).won(won).finishedAt(finishedAt).build();
+    }
+}
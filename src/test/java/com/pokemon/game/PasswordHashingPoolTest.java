@@ -0,0 +1,119 @@
+package com.pokemon.game;
+
+import com.pokemon.game.config.PooledPasswordEncoder;
+import com.pokemon.game.model.Role;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.repository.UserRepository;
+import com.pokemon.game.service.IdentityCache;
+import com.pokemon.game.service.PasswordHashingBusyException;
+import com.pokemon.game.service.PasswordHashingPool;
+import com.pokemon.game.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pool de BCrypt: rechazo inmediato con la cola llena, métricas de espera y
+ * re-hash transparente al subir el coste.
+ */
+public class PasswordHashingPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Admisión: con el hilo ocupado y la cola llena se rechaza al momento, sin esperar")
+    void testRejectsWhenSaturated() throws Exception {
+        pool = new PasswordHashingPool(1, 1, Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> pool.execute("matches", () -> {
+            running.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> pool.execute("matches", () -> true));
+        waitForQueueSize(1);
+
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingBusyException.class, () -> pool.execute("matches", () -> true));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        release.countDown();
+        assertTrue(busy.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+
+        assertEquals(1.0, meterRegistry.counter("auth.hashing.rejected").count());
+        assertEquals(2, meterRegistry.timer("auth.hashing.queue.wait", "operation", "matches").count());
+        assertTrue(meterRegistry.timer("auth.hashing.queue.wait", "operation", "matches").max(TimeUnit.MILLISECONDS) > 0);
+    }
+
+    @Test
+    @DisplayName("Rehash: un login correcto con coste antiguo guarda el hash con el coste nuevo")
+    void testRehashOnLogin() {
+        pool = new PasswordHashingPool(2, 8, Duration.ofSeconds(5), meterRegistry);
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), pool);
+
+        User ash = User.builder().username("Ash").password(new BCryptPasswordEncoder(4).encode("pikachu"))
+                .roles(Set.of(Role.builder().name("ROLE_USER").build())).build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findWithRolesByUsername("Ash")).thenReturn(Optional.of(ash));
+        when(userRepository.findByUsername("Ash")).thenReturn(Optional.of(ash));
+        when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository,
+                new IdentityCache(userRepository, mock(PlayerRepository.class), meterRegistry, 100, Duration.ofMinutes(5)));
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
+
+        assertTrue(provider.authenticate(new UsernamePasswordAuthenticationToken("Ash", "pikachu")).isAuthenticated());
+
+        assertTrue(ash.getPassword().startsWith("$2a$05$"));
+        assertFalse(encoder.upgradeEncoding(ash.getPassword()));
+        verify(userRepository).save(ash);
+        assertEquals(1, meterRegistry.timer("auth.hashing.duration", "operation", "matches").count());
+        assertTrue(meterRegistry.timer("auth.hashing.duration", "operation", "encode").count() >= 1);
+    }
+
+    private void waitForQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.hashing.queue.size").gauge().value() < size) {
+            assertTrue(System.nanoTime() < deadline, "la tarea no llegó a la cola");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.pokemon.game;
+
+import com.pokemon.game.model.StaticAbilityData;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.StaticTypeData;
+import com.pokemon.game.repository.StaticAbilityDataRepository;
+import com.pokemon.game.repository.StaticMoveDataRepository;
+import com.pokemon.game.repository.StaticPokemonDataRepository;
+import com.pokemon.game.repository.StaticTypeDataRepository;
+import com.pokemon.game.service.IngestionCheckpointStore;
+import com.pokemon.game.service.IngestionHashStore;
+import com.pokemon.game.service.PokeApiIngestionService;
+import com.pokemon.game.service.PokeApiIngestionService.Stage;
+import com.pokemon.game.service.StaticDataBulkLoader;
+import com.pokemon.game.service.StaticDataBulkLoader.TypeEfficacy;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Ingesta completa contra el stand-in local de la PokeAPI. Las tablas
+ * estáticas se sustituyen por un almacén en memoria detrás del bulk loader y
+ * de las consultas de los repositorios, así que no hace falta BD.
+ *
+ * Los benchmarks van con @Tag("benchmark") y sólo corren con -Pbenchmark.
+ */
+@Slf4j
+public class PokeApiIngestionStandInTest {
+
+    @Test
+    @DisplayName("Ingesta completa desde fixtures: tipos, habilidades, movimientos, especies y efectividades")
+    void testIngestFromFixtures() throws Exception {
+        try (PokeApiStandIn standIn = new PokeApiStandIn(1)) {
+            IngestionRun run = ingest(standIn);
+            StaticDataSnapshot data = run.registry().current();
+
+            assertEquals(standIn.size("type"), data.typeCount());
+            assertEquals(standIn.size("ability"), data.abilityCount());
+            assertEquals(standIn.size("move"), data.moveCount());
+            assertEquals(standIn.size("pokemonspecies"), data.speciesCount());
+
+            int pikachu = data.speciesOrdinal("pikachu");
+            assertEquals(90, data.baseSpeed(pikachu));
+            assertTrue(data.hasType(pikachu, data.typeOrdinal("electric")));
+            assertTrue(data.canLearn(pikachu, data.moveOrdinal("thunderbolt")));
+            assertFalse(data.canLearn(pikachu, data.moveOrdinal("surf")));
+
+            assertEquals(2.0, data.effectiveness(data.typeOrdinal("water"), data.typeOrdinal("fire")));
+            assertEquals(0.0, data.effectiveness(data.typeOrdinal("electric"), data.typeOrdinal("ground")));
+            assertEquals(1.0, data.effectiveness(data.typeOrdinal("normal"), data.typeOrdinal("fire")));
+
+            // IDs no contiguos: lo que hay tras el salto a 10001 también se ingiere
+            assertTrue(data.moveOrdinal("zippy-zap") >= 0);
+
+            // Lo que decide si se reexporta el snapshot
+            assertEquals(standIn.size("move"), run.written().get(Stage.MOVES));
+            assertEquals(standIn.size("pokemonspecies"), run.written().get(Stage.POKEMON));
+        }
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "Benchmark de ingesta x{0}")
+    @ValueSource(ints = {1, 10, 100})
+    void benchmarkIngestion(int scale) throws Exception {
+        try (PokeApiStandIn standIn = new PokeApiStandIn(scale)) {
+            System.gc();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            IngestionRun run = ingest(standIn);
+
+            long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            int records = run.tables().types.size() + run.tables().abilities.size()
+                    + run.tables().moves.size() + run.tables().pokemon.size();
+            double seconds = run.elapsed().toNanos() / 1e9;
+
+            log.info("Ingesta x{}: {} registros ({} especies) en {} s -> {} registros/s, "
+                    + "{} peticiones, pico de heap {} MB, etapas {}",
+                    scale, records, run.tables().pokemon.size(), String.format("%.2f", seconds),
+                    Math.round(records / seconds), standIn.requestCount(), peakHeap / (1024 * 1024), run.timings());
+
+            assertEquals(standIn.size("pokemonspecies"), run.tables().pokemon.size());
+        }
+    }
+
+    private record IngestionRun(StaticDataRegistry registry, InMemoryStaticTables tables,
+            Map<Stage, Duration> timings, Map<Stage, Integer> written, Duration elapsed) {
+
+    }
+
+    private IngestionRun ingest(PokeApiStandIn standIn) {
+        InMemoryStaticTables tables = new InMemoryStaticTables();
+        StaticDataRegistry registry = tables.registry();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl(standIn.baseUri())
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+
+        PokeApiIngestionService service = new PokeApiIngestionService(webClient, tables, registry,
+                mock(IngestionCheckpointStore.class), mock(IngestionHashStore.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "persistThreads", 4);
+        ReflectionTestUtils.setField(service, "pageSize", 100);
+        ReflectionTestUtils.setField(service, "fetchConcurrency", 4);
+        ReflectionTestUtils.invokeMethod(service, "initScheduler");
+
+        try {
+            long start = System.nanoTime();
+            Map<Stage, Integer> written = new ConcurrentHashMap<>();
+            Map<Stage, Duration> timings = service.ingest(EnumSet.allOf(Stage.class),
+                    (stage, elapsed, records) -> written.put(stage, records)).block(Duration.ofMinutes(5));
+            return new IngestionRun(registry, tables, timings, written, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            ReflectionTestUtils.invokeMethod(service, "disposeScheduler");
+        }
+    }
+
+    /**
+     * Tablas estáticas en memoria: recibe las escrituras del bulk loader y
+     * responde a las consultas de proyección que usa el registro.
+     */
+    static class InMemoryStaticTables extends StaticDataBulkLoader {
+
+        final NavigableMap<Long, StaticTypeData> types = new ConcurrentSkipListMap<>();
+        final NavigableMap<Long, StaticAbilityData> abilities = new ConcurrentSkipListMap<>();
+        final NavigableMap<Long, StaticMoveData> moves = new ConcurrentSkipListMap<>();
+        final NavigableMap<Long, StaticPokemonData> pokemon = new ConcurrentSkipListMap<>();
+        private volatile List<TypeEfficacy> efficacies = List.of();
+        private final AtomicLong sequence = new AtomicLong();
+
+        InMemoryStaticTables() {
+            super(mock(JdbcTemplate.class), mock(EntityManagerFactory.class));
+        }
+
+        @Override
+        public List<StaticTypeData> saveTypes(List<StaticTypeData> batch) {
+            return store(batch, types, StaticTypeData::getId, StaticTypeData::setId);
+        }
+
+        @Override
+        public List<StaticAbilityData> saveAbilities(List<StaticAbilityData> batch) {
+            return store(batch, abilities, StaticAbilityData::getId, StaticAbilityData::setId);
+        }
+
+        @Override
+        public List<StaticMoveData> saveMoves(List<StaticMoveData> batch) {
+            return store(batch, moves, StaticMoveData::getId, StaticMoveData::setId);
+        }
+
+        @Override
+        public List<StaticPokemonData> savePokemon(List<StaticPokemonData> batch) {
+            return store(batch, pokemon, StaticPokemonData::getId, StaticPokemonData::setId);
+        }
+
+        @Override
+        public List<TypeEfficacy> replaceTypeEfficacy(List<TypeEfficacy> batch) {
+            efficacies = List.copyOf(batch);
+            return batch;
+        }
+
+        private <T> List<T> store(List<T> batch, Map<Long, T> table, Function<T, Long> getId,
+                BiConsumer<T, Long> setId) {
+            for (T item : batch) {
+                if (getId.apply(item) == null) {
+                    setId.accept(item, sequence.incrementAndGet());
+                }
+                table.put(getId.apply(item), item);
+            }
+            return batch;
+        }
+
+        StaticDataRegistry registry() {
+            StaticTypeDataRepository typeRepository = mock(StaticTypeDataRepository.class);
+            StaticAbilityDataRepository abilityRepository = mock(StaticAbilityDataRepository.class);
+            StaticMoveDataRepository moveRepository = mock(StaticMoveDataRepository.class);
+            StaticPokemonDataRepository pokemonRepository = mock(StaticPokemonDataRepository.class);
+
+            when(typeRepository.findAllIdAndName()).thenAnswer(i -> rows(types.values(), t -> new Object[]{t.getId(), t.getName()}));
+            when(typeRepository.findAllEfficacyRows()).thenAnswer(i -> rows(efficacies,
+                    e -> new Object[]{e.attackingTypeId(), e.defendingTypeId(), e.factor()}));
+            when(abilityRepository.findAllAbilityRows()).thenAnswer(i -> rows(abilities.values(),
+                    a -> new Object[]{a.getId(), a.getName(), a.getDescription()}));
+            when(moveRepository.findAllMoveRows()).thenAnswer(i -> rows(moves.values(),
+                    m -> new Object[]{m.getId(), m.getName(), m.getPower(), m.getAccuracy(), m.getPp(), m.getPriority(),
+                        m.getDamageClass(), m.getType().getId()}));
+            when(pokemonRepository.findAllStatRows()).thenAnswer(i -> rows(pokemon.values(),
+                    p -> new Object[]{p.getId(), p.getName(), p.getBaseHp(), p.getBaseAttack(), p.getBaseDefense(),
+                        p.getBaseSpecialAttack(), p.getBaseSpecialDefense(), p.getBaseSpeed()}));
+            when(pokemonRepository.findAllTypePairs()).thenAnswer(i -> speciesPairs(p -> p.getTypes().stream().map(StaticTypeData::getId).toList()));
+            when(pokemonRepository.findAllAbilityPairs()).thenAnswer(i -> speciesPairs(p -> p.getAbilities().stream().map(StaticAbilityData::getId).toList()));
+            when(pokemonRepository.findAllLearnsetPairs()).thenAnswer(i -> speciesPairs(p -> p.getMoves().stream().map(StaticMoveData::getId).toList()));
+
+            return new StaticDataRegistry(typeRepository, abilityRepository, moveRepository, pokemonRepository);
+        }
+
+        private static <T> List<Object[]> rows(Iterable<T> items, Function<T, Object[]> mapper) {
+            List<Object[]> rows = new ArrayList<>();
+            items.forEach(item -> rows.add(mapper.apply(item)));
+            return rows;
+        }
+
+        private List<Object[]> speciesPairs(Function<StaticPokemonData, List<Long>> targets) {
+            List<Object[]> pairs = new ArrayList<>();
+            for (StaticPokemonData p : pokemon.values()) {
+                targets.apply(p).forEach(id -> pairs.add(new Object[]{p.getId(), id}));
+            }
+            return pairs;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.pokemon.game;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sustituto local del endpoint GraphQL de la PokeAPI para tests y
+ * benchmarks de ingesta. Sirve las respuestas grabadas en
+ * src/test/resources/pokeapi para las consultas type, ability, move y
+ * pokemonspecies, filtrando por los rangos de ID $from/$to, y el ID máximo
+ * de cada tabla para las consultas <tabla>_aggregate.
+ *
+ * Con scale > 1 las especies se replican (nombre con sufijo y IDs
+ * consecutivos) para medir la ingesta con 10x o 100x datos.
+ *
+ * Luis
+ */
+public class PokeApiStandIn implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern AGGREGATE = Pattern.compile("(\\w+)_aggregate");
+
+    private final Map<String, List<ObjectNode>> tables;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger requests = new AtomicInteger();
+
+    public PokeApiStandIn(int scale) throws IOException {
+        List<ObjectNode> species = fixture("pokemonspecies");
+        this.tables = Map.of(
+                "type", fixture("type"),
+                "ability", fixture("ability"),
+                "move", fixture("move"),
+                "pokemonspecies", scale(species, scale));
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/graphql";
+    }
+
+    public int size(String table) {
+        return tables.get(table).size();
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            JsonNode payload = MAPPER.readTree(exchange.getRequestBody());
+            String query = payload.path("query").asText();
+            JsonNode variables = payload.path("variables");
+
+            Matcher aggregate = AGGREGATE.matcher(query);
+            if (aggregate.find() && tables.containsKey(aggregate.group(1))) {
+                respond(exchange, 200, MAPPER.writeValueAsString(maxId(aggregate.group(1))));
+                return;
+            }
+
+            String table = tableFor(query);
+            if (table == null) {
+                respond(exchange, 400, "{\"errors\":[{\"message\":\"Consulta no soportada por el stand-in\"}]}");
+                return;
+            }
+
+            long from = variables.path("from").asLong(Long.MIN_VALUE);
+            long to = variables.path("to").asLong(Long.MAX_VALUE);
+            List<JsonNode> rows = new ArrayList<>();
+            for (ObjectNode row : tables.get(table)) {
+                long id = row.path("id").asLong();
+                if (id >= from && id <= to) {
+                    rows.add(row.deepCopy().without("id"));
+                }
+            }
+
+            ObjectNode body = MAPPER.createObjectNode();
+            body.putObject("data").putArray(table).addAll(rows);
+            respond(exchange, 200, MAPPER.writeValueAsString(body));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ObjectNode maxId(String table) {
+        long max = tables.get(table).stream().mapToLong(row -> row.path("id").asLong()).max().orElse(0L);
+        ObjectNode body = MAPPER.createObjectNode();
+        body.putObject("data").putObject(table + "_aggregate").putObject("aggregate").putObject("max").put("id", max);
+        return body;
+    }
+
+    private static String tableFor(String query) {
+        // Orden importante: la consulta de especies también menciona ability y move
+        if (query.contains("pokemonspecies(")) {
+            return "pokemonspecies";
+        }
+        if (query.contains("ability(")) {
+            return "ability";
+        }
+        if (query.contains("move(")) {
+            return "move";
+        }
+        if (query.contains("type(")) {
+            return "type";
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static List<ObjectNode> fixture(String name) {
+        try (InputStream in = PokeApiStandIn.class.getResourceAsStream("/pokeapi/" + name + ".json")) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture no encontrado: " + name);
+            }
+            return MAPPER.readValue(in, new TypeReference<List<ObjectNode>>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<ObjectNode> scale(List<ObjectNode> base, int scale) {
+        List<ObjectNode> scaled = new ArrayList<>(base.size() * scale);
+        long id = 1;
+        for (int copy = 0; copy < scale; copy++) {
+            for (ObjectNode row : base) {
+                ObjectNode clone = row.deepCopy();
+                clone.put("id", id++);
+                if (copy > 0) {
+                    clone.put("name", row.path("name").asText() + "-s" + copy);
+                }
+                scaled.add(clone);
+            }
+        }
+        return scaled;
+    }
+}
@@ -1,14 +1,33 @@
 package com.pokemon.game;
 
 import com.pokemon.game.dto.GameLobbyDTO;
+import com.pokemon.game.dto.TeamPresetDTO;
 import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.dto.payload.BattleUpdatePayload;
 import com.pokemon.game.model.GameLobby;
 import com.pokemon.game.model.Player;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.TeamPreset;
 import com.pokemon.game.model.User;
 import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.repository.PlayerPokemonRepository;
+import com.pokemon.game.repository.StaticMoveDataRepository;
+import com.pokemon.game.repository.StaticPokemonDataRepository;
+import com.pokemon.game.repository.TeamPresetRepository;
+import com.pokemon.game.request.TeamPresetRequest;
+import com.pokemon.game.service.BattleService;
+import com.pokemon.game.model.TeamTemplate;
+import com.pokemon.game.service.IBattleStateManagerService;
+import com.pokemon.game.service.IDamageCalculatorService;
 import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.ITeamPresetService;
 import com.pokemon.game.service.ITeamService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
 import com.pokemon.game.service.impl.GameLobbyServiceImpl;
+import com.pokemon.game.service.impl.TeamPresetServiceImpl;
+import com.pokemon.game.service.impl.TeamServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +39,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +61,10 @@ public class PrivateLobbyServiceTest {
     private ITeamService teamService;
     @Mock
     private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private ITeamPresetService teamPresetService;
+    @Mock
+    private IBattleStateManagerService battleStateManager;
 
     @InjectMocks
     private GameLobbyServiceImpl gameLobbyService;
@@ -88,7 +112,7 @@ public class PrivateLobbyServiceTest {
         TeamSetupDTO teamDto = new TeamSetupDTO(List.of("Mewtwo"));
 
         when(playerService.getCurrentAuthenticatedUser()).thenReturn(mockUser);
-        when(gameLobbyRepository.findById(lobbyId)).thenReturn(Optional.of(lobby));
+        when(gameLobbyRepository.findWithPlayersById(lobbyId)).thenReturn(Optional.of(lobby));
 
         gameLobbyService.processTeamSelection(lobbyId, teamDto);
 
@@ -102,4 +126,91 @@ public class PrivateLobbyServiceTest {
         assertEquals("/topic/game/" + lobbyId.toString(), destCaptor.getValue());
         assertEquals("PLAYER_READY", payloadCaptor.getValue().get("type"));
     }
+
+    @Test
+    @DisplayName("Procesar Equipo con preset: usa la plantilla guardada sin recrear el equipo e inicia la batalla")
+    void testProcessTeamSelectionWithPreset() {
+        UUID lobbyId = UUID.randomUUID();
+        Player rival = Player.builder().id(2L).user(User.builder().username("TrainerBlue").build()).build();
+        GameLobby lobby = GameLobby.builder()
+                .id(lobbyId)
+                .players(new ArrayList<>(List.of(mockPlayer, rival)))
+                .build();
+        TeamTemplate template = new TeamTemplate(10L, mockPlayer.getId(), "Kanto", List.of());
+        Player rivalWithTeam = Player.builder().id(2L).user(rival.getUser()).build();
+
+        when(gameLobbyRepository.findWithPlayersById(lobbyId)).thenReturn(Optional.of(lobby));
+        when(teamPresetService.getTemplate(10L, mockPlayer.getId())).thenReturn(template);
+        when(playerService.loadTeams(List.of(rival.getId()))).thenReturn(List.of(rivalWithTeam));
+
+        when(playerService.getCurrentAuthenticatedUser()).thenReturn(rival.getUser());
+        gameLobbyService.processTeamSelection(lobbyId, new TeamSetupDTO(List.of("1", "2", "3", "4", "5", "6")));
+        verify(battleStateManager, never()).createBattle(any(), any(), any());
+
+        when(playerService.getCurrentAuthenticatedUser()).thenReturn(mockUser);
+        gameLobbyService.processTeamSelection(lobbyId, new TeamSetupDTO(null, null, 10L));
+
+        verify(teamService, times(1)).createPlayerTeam(any(TeamSetupDTO.class));
+        // El rival entra con el equipo cargado, no con el Player del lobby
+        verify(battleStateManager).createBattle(eq(lobbyId), argThat(players -> players.size() == 2
+                && players.get(0) == mockPlayer && players.get(1) == rivalWithTeam), eq(Map.of(mockPlayer.getId(), template)));
+    }
+
+    @Test
+    @DisplayName("Preset con movimientos: se valida al guardar y la batalla desde el preset puede ejecutar un turno")
+    void testPresetTeamCanExecuteTurn() {
+        StaticDataSnapshot snapshot = StaticDataSnapshot.builder()
+                .addType(10L, "electric")
+                .addMove(1L, "thunderbolt", 90, 100, 15, 0, "special", 10L)
+                .addMove(2L, "vine-whip", 45, 100, 25, 0, "physical", 10L)
+                .addSpecies(1L, "pikachu", 35, 55, 40, 50, 50, 90)
+                .addSpeciesType(1L, 10L)
+                .addLearnableMove(1L, 1L)
+                .build();
+        StaticDataRegistry staticDataRegistry = mock(StaticDataRegistry.class);
+        when(staticDataRegistry.current()).thenReturn(snapshot);
+
+        TeamPresetRepository teamPresetRepository = mock(TeamPresetRepository.class);
+        StaticPokemonDataRepository staticPokemonDataRepository = mock(StaticPokemonDataRepository.class);
+        StaticMoveDataRepository staticMoveDataRepository = mock(StaticMoveDataRepository.class);
+        TeamPresetServiceImpl presetService = new TeamPresetServiceImpl(playerService, teamPresetRepository,
+                staticPokemonDataRepository, staticMoveDataRepository, staticDataRegistry,
+                new TeamServiceImpl(playerService, null, null, null, staticDataRegistry));
+
+        when(playerService.getCurrentPlayer()).thenReturn(mockPlayer);
+        when(staticPokemonDataRepository.findByNameIn(any())).thenReturn(List.of(
+                StaticPokemonData.builder().id(1L).name("pikachu").baseHp(35).build()));
+        when(staticMoveDataRepository.getReferenceById(1L)).thenReturn(
+                StaticMoveData.builder().id(1L).name("thunderbolt").pp(15).build());
+        when(teamPresetRepository.save(any(TeamPreset.class))).thenAnswer(i -> {
+            TeamPreset preset = i.getArgument(0);
+            preset.setId(10L);
+            return preset;
+        });
+
+        List<String> pikachus = Collections.nCopies(6, "pikachu");
+        assertThrows(IllegalArgumentException.class, () -> presetService.savePreset(
+                new TeamPresetRequest("Ilegal", pikachus, Collections.nCopies(6, List.of("vine-whip")))));
+
+        TeamPresetDTO saved = presetService.savePreset(
+                new TeamPresetRequest("Pikachus", pikachus, Collections.nCopies(6, List.of("thunderbolt"))));
+        assertEquals(Collections.nCopies(6, List.of("thunderbolt")), saved.moveSets());
+
+        Player rival = Player.builder().id(2L).user(User.builder().username("TrainerBlue").build()).build();
+        TeamTemplate template = presetService.getTemplate(10L, mockPlayer.getId());
+
+        IDamageCalculatorService damageCalculator = mock(IDamageCalculatorService.class);
+        PlayerPokemonRepository playerPokemonRepository = mock(PlayerPokemonRepository.class);
+        when(damageCalculator.calculateDamage(any(), any(), any())).thenReturn(20);
+        BattleService battle = new BattleService(UUID.randomUUID(), List.of(mockPlayer, rival),
+                Map.of(mockPlayer.getId(), template, rival.getId(), template),
+                damageCalculator, staticDataRegistry, playerPokemonRepository);
+
+        BattleUpdatePayload update = battle.executeTurn(mockPlayer.getId(), "thunderbolt");
+
+        assertEquals(20, update.damageDealt());
+        assertEquals(15, update.targetNewHp());
+        assertEquals(rival.getId(), update.nextTurnPlayerId());
+        verify(playerPokemonRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,90 @@
+package com.pokemon.game;
+
+import com.pokemon.game.config.ReadWriteRoutingDataSource;
+import com.pokemon.game.config.ReplicaLagMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Enrutado lectura/escritura contra dos BD H2 en memoria: una hace de
+ * primaria y la otra de réplica, cada una con su marca para saber quién
+ * respondió.
+ */
+public class ReadWriteRoutingTest {
+
+    private JdbcTemplate replicaAdmin;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        replicaAdmin.execute("CREATE TABLE replica_status (lag BIGINT)");
+        replicaAdmin.update("INSERT INTO replica_status VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT lag FROM replica_status", Duration.ofSeconds(5));
+        lagMonitor.check();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, lagMonitor));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Routing: readOnly a la réplica; escrituras y trabajo sin transacción a la primaria")
+    void testReadOnlyGoesToReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> answeredBy()));
+        assertEquals("primary", writeTransaction.execute(status -> answeredBy()));
+        assertEquals("primary", answeredBy());
+    }
+
+    @Test
+    @DisplayName("Routing: con la réplica retrasada o caída, readOnly vuelve a la primaria")
+    void testLaggingReplicaFallsBackToPrimary() {
+        replicaAdmin.update("UPDATE replica_status SET lag = 30");
+        lagMonitor.check();
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnlyTransaction.execute(status -> answeredBy()));
+
+        replicaAdmin.update("UPDATE replica_status SET lag = NULL");
+        lagMonitor.check();
+        assertEquals("primary", readOnlyTransaction.execute(status -> answeredBy()));
+
+        replicaAdmin.update("UPDATE replica_status SET lag = 2");
+        lagMonitor.check();
+        assertEquals(Duration.ofSeconds(2), lagMonitor.lastLag());
+        assertEquals("replica", readOnlyTransaction.execute(status -> answeredBy()));
+    }
+
+    private String answeredBy() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate admin = new JdbcTemplate(dataSource);
+        admin.execute("CREATE TABLE marker (name VARCHAR(16))");
+        admin.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
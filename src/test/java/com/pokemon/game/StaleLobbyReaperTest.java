@@ -0,0 +1,139 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.StaleLobbyDTO;
+import com.pokemon.game.model.GameLobby;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.GameLobbyRepository;
+import com.pokemon.game.repository.PlayerRepository;
+import com.pokemon.game.service.LobbySlotRegistry;
+import com.pokemon.game.service.StaleLobbyReaper;
+import com.pokemon.game.util.Enums;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Limpieza de lobbies sobre H2: sólo caen los WAITING caducados a los que nadie
+ * se ha unido, los FINISHED se archivan por su fin de partida y un lote fallido
+ * no deja plazas retiradas en memoria.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+public class StaleLobbyReaperTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private GameLobbyRepository gameLobbyRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final LobbySlotRegistry lobbySlotRegistry = new LobbySlotRegistry();
+    private int users;
+
+    @Test
+    @DisplayName("Reaper: borra el lobby caducado sin rival y respeta el que ya tiene dos jugadores")
+    void testReapsOnlyUnjoinedLobbies() {
+        LocalDateTime old = LocalDateTime.now().minusHours(2);
+        UUID abandoned = lobby(Enums.GameStatus.WAITING, old, 1);
+        UUID joined = lobby(Enums.GameStatus.WAITING, old, 2);
+        UUID recent = lobby(Enums.GameStatus.WAITING, LocalDateTime.now(), 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        reaper(gameLobbyRepository, playerRepository).reapStaleLobbies();
+        entityManager.clear();
+
+        assertFalse(gameLobbyRepository.existsById(abandoned));
+        assertEquals(2, gameLobbyRepository.findWithPlayersById(joined).orElseThrow().getPlayers().size());
+        assertTrue(gameLobbyRepository.existsById(recent));
+        assertEquals(3, playerRepository.findAll().stream().filter(p -> p.getGameLobby() != null).count());
+        verify(messagingTemplate).convertAndSend("/topic/lobby", Map.of("type", "LOBBY_REMOVED", "lobbyId", abandoned));
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Archivo: la gracia de un lobby FINISHED cuenta desde el fin de la partida, no desde su creación")
+    void testArchivesFinishedLobbiesByFinishTime() {
+        LocalDateTime created = LocalDateTime.now().minusHours(2);
+        UUID justFinished = lobby(Enums.GameStatus.FINISHED, created, LocalDateTime.now().minusMinutes(1), 2);
+        UUID finishedLongAgo = lobby(Enums.GameStatus.FINISHED, created, LocalDateTime.now().minusMinutes(10), 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        reaper(gameLobbyRepository, playerRepository).archiveFinishedLobbies();
+        entityManager.clear();
+
+        assertTrue(gameLobbyRepository.existsById(justFinished));
+        assertFalse(gameLobbyRepository.existsById(finishedLongAgo));
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Reaper: si el lote falla, el lobby vuelve a admitir uniones en este nodo")
+    void testFailedBatchReleasesRetiredSlots() {
+        UUID lobbyId = UUID.randomUUID();
+        GameLobbyRepository lobbies = mock(GameLobbyRepository.class);
+        PlayerRepository players = mock(PlayerRepository.class);
+        when(lobbies.findExpiredAfter(any(), any(), anyInt(), any(), any(), any())).thenReturn(List.of(
+                new StaleLobbyDTO(lobbyId, LocalDateTime.now().minusHours(2), true)));
+        when(lobbies.lockExpiredByIds(anyCollection(), eq(Enums.GameStatus.WAITING), any(), eq(1)))
+                .thenReturn(List.of(GameLobby.builder().id(lobbyId).build()));
+        when(players.detachFromLobbies(anyCollection())).thenThrow(new IllegalStateException("fallo simulado"));
+
+        reaper(lobbies, players).reapStaleLobbies();
+
+        assertTrue(lobbySlotRegistry.tryClaim(lobbyId, 1));
+        verify(lobbies, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    private StaleLobbyReaper reaper(GameLobbyRepository lobbies, PlayerRepository players) {
+        StaleLobbyReaper reaper = new StaleLobbyReaper(lobbies, players, lobbySlotRegistry, messagingTemplate, transactionManager);
+        ReflectionTestUtils.setField(reaper, "ttlMinutes", 30L);
+        ReflectionTestUtils.setField(reaper, "finishedGraceMinutes", 5L);
+        ReflectionTestUtils.setField(reaper, "batchSize", 200);
+        ReflectionTestUtils.setField(reaper, "maxBatchesPerRun", 50);
+        return reaper;
+    }
+
+    private UUID lobby(Enums.GameStatus status, LocalDateTime createdAt, int playerCount) {
+        return lobby(status, createdAt, null, playerCount);
+    }
+
+    private UUID lobby(Enums.GameStatus status, LocalDateTime createdAt, LocalDateTime finishedAt, int playerCount) {
+        GameLobby lobby = GameLobby.builder().status(status).isPublic(true)
+                .createdAt(createdAt).finishedAt(finishedAt).build();
+        for (int i = 0; i < playerCount; i++) {
+            User user = entityManager.persist(User.builder().username("trainer" + (++users))
+                    .email("trainer" + users + "@pokemon.test").password("x").build());
+            lobby.addPlayer(Player.builder().user(user).build());
+        }
+        return entityManager.persist(lobby).getId();
+    }
+}
@@ -0,0 +1,85 @@
+package com.pokemon.game;
+
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.StaticTypeData;
+import com.pokemon.game.service.StaticDataBulkLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StaticDataBulkLoaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache jpaCache;
+    @Mock
+    private org.hibernate.Cache hibernateCache;
+
+    private StaticDataBulkLoader bulkLoader;
+
+    @BeforeEach
+    void setUp() {
+        bulkLoader = new StaticDataBulkLoader(jdbcTemplate, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Especies nuevas: IDs reservados tras MAX(id) y filas de unión con esos IDs")
+    @SuppressWarnings("unchecked")
+    void testNewSpeciesGetIdsInMemory() {
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(org.hibernate.Cache.class)).thenReturn(hibernateCache);
+        when(jdbcTemplate.queryForObject(endsWith("FROM static_pokemon_data"), eq(Long.class))).thenReturn(41L);
+
+        StaticTypeData electric = StaticTypeData.builder().id(10L).name("electric").build();
+        StaticMoveData thunderbolt = StaticMoveData.builder().id(7L).name("thunderbolt").build();
+        StaticPokemonData pikachu = StaticPokemonData.builder()
+                .name("pikachu").baseHp(35)
+                .types(Set.of(electric)).abilities(Set.of()).moves(Set.of(thunderbolt))
+                .build();
+        StaticPokemonData raichu = StaticPokemonData.builder()
+                .name("raichu").baseHp(60)
+                .types(Set.of(electric)).abilities(Set.of()).moves(Set.of())
+                .build();
+
+        bulkLoader.savePokemon(List.of(pikachu, raichu));
+
+        assertEquals(42L, pikachu.getId());
+        assertEquals(43L, raichu.getId());
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO pokemon_types"), rows.capture(), anyInt(), any());
+        List<List<Object>> typeRows = new ArrayList<>();
+        rows.getValue().forEach(row -> typeRows.add(List.of(row)));
+        assertEquals(List.of(List.of(42L, 10L), List.of(43L, 10L)), typeRows);
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO pokemon_moves"), rows.capture(), anyInt(), any());
+        assertArrayEquals(new Object[]{42L, 7L}, rows.getValue().get(0));
+
+        // Sin registros existentes no hay UPDATE ni borrado de relaciones
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), anyList(), anyInt(), any());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+
+        // Escrituras fuera de Hibernate: la caché de segundo nivel se vacía
+        verify(hibernateCache, atLeastOnce()).evictAllRegions();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pokemon.game;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.pokemon.game.config.StaticDataCacheWeigher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.io.Serializable;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StaticDataCacheConfigTest {
+
+    @Test
+    @DisplayName("hibernate-cache.conf define todas las regiones que usa Hibernate")
+    void testRegionsAreConfigured() throws Exception {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = getClass().getResource("/hibernate-cache.conf").toURI();
+
+        try (CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader())) {
+            assertNotNull(cacheManager.getCache("static-data"));
+            assertNotNull(cacheManager.getCache("default-query-results-region"));
+            assertNotNull(cacheManager.getCache("default-update-timestamps-region"));
+        }
+    }
+
+    @Test
+    @DisplayName("El peso de una entrada crece con su contenido")
+    void testWeigherIsSizeAware() {
+        StaticDataCacheWeigher weigher = new StaticDataCacheWeigher();
+
+        int type = weigher.weigh(1L, new Serializable[]{"fire"});
+        int ability = weigher.weigh(1L, new Serializable[]{"drizzle", "Summons rain that lasts for five turns upon entering battle.".repeat(20)});
+
+        assertTrue(type > 0);
+        assertTrue(ability > type * 10);
+    }
+}
@@ -0,0 +1,179 @@
+package com.pokemon.game;
+
+import com.pokemon.game.dto.PlayerPokemonDTO;
+import com.pokemon.game.dto.TeamSetupDTO;
+import com.pokemon.game.dto.TeamValidationResultDTO;
+import com.pokemon.game.model.Player;
+import com.pokemon.game.model.StaticMoveData;
+import com.pokemon.game.model.StaticPokemonData;
+import com.pokemon.game.model.User;
+import com.pokemon.game.repository.PlayerPokemonRepository;
+import com.pokemon.game.repository.StaticAbilityDataRepository;
+import com.pokemon.game.repository.StaticMoveDataRepository;
+import com.pokemon.game.repository.StaticPokemonDataRepository;
+import com.pokemon.game.repository.StaticTypeDataRepository;
+import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
+import com.pokemon.game.service.impl.TeamServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StaticDataRegistryTest {
+
+    @Mock
+    private IPlayerService playerService;
+    @Mock
+    private PlayerPokemonRepository playerPokemonRepository;
+    @Mock
+    private StaticTypeDataRepository typeRepository;
+    @Mock
+    private StaticAbilityDataRepository abilityRepository;
+    @Mock
+    private StaticPokemonDataRepository pokemonRepository;
+    @Mock
+    private StaticMoveDataRepository moveRepository;
+
+    private StaticDataRegistry registry;
+    private TeamServiceImpl teamService;
+
+    @BeforeEach
+    void setUp() {
+        when(typeRepository.findAllIdAndName()).thenReturn(List.of(
+                new Object[]{10L, "electric"},
+                new Object[]{11L, "grass"},
+                new Object[]{12L, "ground"}));
+        when(typeRepository.findAllEfficacyRows()).thenReturn(List.<Object[]>of(
+                new Object[]{12L, 10L, 200}, new Object[]{10L, 11L, 50}, new Object[]{10L, 12L, 0}));
+
+        // 130 movimientos para que los learnsets ocupen varias palabras de 64 bits
+        List<Object[]> moves = new ArrayList<>();
+        for (long id = 1; id <= 130; id++) {
+            moves.add(new Object[]{id, "move-" + id, 40, 100, 35, 0, "physical", 10L});
+        }
+        moves.set(0, new Object[]{1L, "thunderbolt", 90, 100, 15, 0, "special", 10L});
+        moves.set(1, new Object[]{2L, "vine-whip", 45, 100, 25, 0, "physical", 11L});
+        when(moveRepository.findAllMoveRows()).thenReturn(moves);
+
+        when(pokemonRepository.findAllStatRows()).thenReturn(List.of(
+                new Object[]{1L, "pikachu", 35, 55, 40, 50, 50, 90},
+                new Object[]{2L, "bulbasaur", 45, 49, 49, 65, 65, 45}));
+        when(pokemonRepository.findAllTypePairs()).thenReturn(List.of(
+                new Object[]{1L, 10L},
+                new Object[]{2L, 11L}));
+        when(pokemonRepository.findAllLearnsetPairs()).thenReturn(List.of(
+                new Object[]{1L, 1L},
+                new Object[]{1L, 70L},
+                new Object[]{1L, 130L},
+                new Object[]{2L, 2L}));
+
+        registry = new StaticDataRegistry(typeRepository, abilityRepository, moveRepository, pokemonRepository);
+        registry.reload();
+
+        teamService = new TeamServiceImpl(playerService, playerPokemonRepository, pokemonRepository, moveRepository, registry);
+    }
+
+    @Test
+    @DisplayName("Registro: índices por ID y nombre, estadísticas y matriz de efectividad")
+    void testSnapshotIndexes() {
+        StaticDataSnapshot data = registry.current();
+
+        int pikachu = data.speciesOrdinal("Pikachu");
+        assertEquals(pikachu, data.speciesOrdinalById(1L));
+        assertEquals(35, data.baseHp(pikachu));
+        assertEquals(90, data.baseSpeed(pikachu));
+        assertEquals(-1, data.speciesOrdinal("mewtwo"));
+
+        int thunderbolt = data.moveOrdinal("thunderbolt");
+        assertTrue(data.isSpecialMove(thunderbolt));
+        assertTrue(data.hasType(pikachu, data.moveType(thunderbolt)));
+
+        int electric = data.typeOrdinal("electric");
+        assertEquals(2.0, data.effectiveness(data.typeOrdinal("ground"), electric));
+        assertEquals(0.5, data.effectiveness(electric, data.typeOrdinal("grass")));
+        assertEquals(0.0, data.effectiveness(electric, data.typeOrdinal("ground")));
+        assertEquals(1.0, data.effectiveness(electric, electric));
+    }
+
+    @Test
+    @DisplayName("Learnset: un moveset es legal sólo si es subconjunto del learnset")
+    void testLearnsets() {
+        StaticDataSnapshot data = registry.current();
+        int pikachu = data.speciesOrdinal("pikachu");
+
+        assertTrue(data.canLearn(pikachu, data.moveOrdinal("move-70")));
+        assertTrue(data.canLearn(pikachu, data.moveOrdinal("move-130")));
+        assertFalse(data.canLearn(pikachu, data.moveOrdinal("vine-whip")));
+
+        assertTrue(data.isLegalMoveset(pikachu, new int[]{
+            data.moveOrdinal("thunderbolt"), data.moveOrdinal("move-70"), data.moveOrdinal("move-130")}));
+        assertFalse(data.isLegalMoveset(pikachu, new int[]{data.moveOrdinal("thunderbolt"), data.moveOrdinal("vine-whip")}));
+        assertFalse(data.isLegalMoveset(pikachu, new int[]{data.moveOrdinal("splash")}));
+    }
+
+    @Test
+    @DisplayName("Validación masiva: informa por índice qué equipos son ilegales sin consultar la BD")
+    void testValidateTeamsInBulk() {
+        List<String> names = List.of("pikachu", "pikachu", "pikachu", "bulbasaur", "bulbasaur", "bulbasaur");
+        List<List<String>> legalMoves = List.of(
+                List.of("thunderbolt"), List.of("move-70"), List.of("move-130"),
+                List.of("vine-whip"), List.of("vine-whip"), List.of("vine-whip"));
+        List<List<String>> illegalMoves = new ArrayList<>(legalMoves);
+        illegalMoves.set(3, List.of("thunderbolt"));
+
+        List<TeamValidationResultDTO> results = teamService.validateTeams(List.of(
+                new TeamSetupDTO(names, legalMoves, null),
+                new TeamSetupDTO(names, illegalMoves, null),
+                new TeamSetupDTO(List.of("pikachu"))));
+
+        assertTrue(results.get(0).valid());
+        assertFalse(results.get(1).valid());
+        assertEquals(List.of("Moveset ilegal para bulbasaur: thunderbolt"), results.get(1).errors());
+        assertFalse(results.get(2).valid());
+
+        verify(pokemonRepository, never()).findByNameIn(any());
+        verify(moveRepository, never()).findByNameIn(any());
+    }
+
+    @Test
+    @DisplayName("Crear equipo: especies y movimientos se enlazan por referencia desde el registro")
+    void testCreateTeamUsesRegistryReferences() {
+        when(playerService.getCurrentPlayerWithTeam()).thenReturn(Player.builder()
+                .id(1L)
+                .user(User.builder().username("Ash").build())
+                .build());
+        when(pokemonRepository.getReferenceById(anyLong()))
+                .thenAnswer(i -> StaticPokemonData.builder().id(i.getArgument(0)).build());
+        when(moveRepository.getReferenceById(anyLong()))
+                .thenAnswer(i -> StaticMoveData.builder().id(i.getArgument(0)).build());
+
+        List<PlayerPokemonDTO> team = teamService.createPlayerTeam(new TeamSetupDTO(
+                List.of("Pikachu", "pikachu", "pikachu", "bulbasaur", "bulbasaur", "bulbasaur"),
+                List.of(List.of("thunderbolt"), List.of("move-70"), List.of("move-130"),
+                        List.of("vine-whip"), List.of("vine-whip"), List.of("vine-whip")),
+                null));
+
+        assertEquals("pikachu", team.get(0).basePokemonName());
+        assertEquals(35, team.get(0).maxHp());
+        assertEquals(Set.of("thunderbolt"), team.get(0).moves());
+
+        verify(pokemonRepository, never()).findByNameIn(any());
+        verify(moveRepository, never()).findByNameIn(any());
+        verify(playerPokemonRepository, times(1)).saveAll(anyList());
+    }
+}
@@ -0,0 +1,84 @@
+package com.pokemon.game;
+
+import com.pokemon.game.service.StaticDataSnapshot;
+import com.pokemon.game.service.StaticDataSnapshotFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StaticDataSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StaticDataSnapshot sampleSnapshot() {
+        StaticDataSnapshot.Builder builder = StaticDataSnapshot.builder()
+                .addType(10L, "electric")
+                .addType(11L, "ground")
+                .addEffectiveness(11L, 10L, 2.0)
+                .addEffectiveness(10L, 11L, 0.0)
+                .addAbility(20L, "static", "Puede paralizar al contacto. ñ")
+                .addSpecies(1L, "pikachu", 35, 55, 40, 50, 50, 90)
+                .addSpeciesType(1L, 10L)
+                .addSpeciesAbility(1L, 20L);
+
+        for (long id = 1; id <= 100; id++) {
+            builder.addMove(id, "move-" + id, 40, 100, 35, 0, id % 2 == 0 ? "special" : "physical", 10L);
+            if (id % 3 == 0) {
+                builder.addLearnableMove(1L, id);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("Snapshot: escribir y leer conserva todos los datos y relaciones")
+    void testRoundTrip() throws IOException {
+        StaticDataSnapshot original = sampleSnapshot();
+        Path file = tempDir.resolve("static.snapshot");
+
+        StaticDataSnapshotFile.write(original, file);
+        StaticDataSnapshot loaded = StaticDataSnapshotFile.read(file);
+
+        assertEquals(original.typeCount(), loaded.typeCount());
+        assertEquals(original.moveCount(), loaded.moveCount());
+        assertEquals(original.speciesCount(), loaded.speciesCount());
+
+        int electric = loaded.typeOrdinal("electric");
+        int ground = loaded.typeOrdinal("ground");
+        assertEquals(2.0, loaded.effectiveness(ground, electric));
+        assertEquals(0.0, loaded.effectiveness(electric, ground));
+        assertEquals(1.0, loaded.effectiveness(electric, electric));
+
+        int pikachu = loaded.speciesOrdinal("pikachu");
+        assertEquals(1L, loaded.speciesId(pikachu));
+        assertEquals(90, loaded.baseSpeed(pikachu));
+        assertTrue(loaded.hasType(pikachu, electric));
+        assertEquals("Puede paralizar al contacto. ñ", loaded.abilityDescription(loaded.speciesAbilities(pikachu)[0]));
+        assertArrayEquals(original.learnableMoves(original.speciesOrdinal("pikachu")), loaded.learnableMoves(pikachu));
+
+        int move = loaded.moveOrdinal("move-42");
+        assertTrue(loaded.isSpecialMove(move));
+        assertEquals(electric, loaded.moveType(move));
+    }
+
+    @Test
+    @DisplayName("Snapshot: un byte alterado se detecta por checksum")
+    void testCorruptedFileIsRejected() throws IOException {
+        Path file = tempDir.resolve("static.snapshot");
+        StaticDataSnapshotFile.write(sampleSnapshot(), file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        IOException exception = assertThrows(IOException.class, () -> StaticDataSnapshotFile.read(file));
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+}
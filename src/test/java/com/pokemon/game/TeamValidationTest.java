@@ -7,6 +7,8 @@ import com.pokemon.game.model.User;
 import com.pokemon.game.repository.PlayerPokemonRepository;
 import com.pokemon.game.repository.StaticPokemonDataRepository;
 import com.pokemon.game.service.IPlayerService;
+import com.pokemon.game.service.StaticDataRegistry;
+import com.pokemon.game.service.StaticDataSnapshot;
 import com.pokemon.game.service.impl.TeamServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -34,6 +36,8 @@ public class TeamValidationTest {
     private PlayerPokemonRepository playerPokemonRepository;
     @Mock
     private StaticPokemonDataRepository staticPokemonDataRepository;
+    @Mock
+    private StaticDataRegistry staticDataRegistry;
 
     @InjectMocks
     private TeamServiceImpl teamService;
@@ -51,7 +55,7 @@ public class TeamValidationTest {
     @Test
     @DisplayName("Debe fallar (Excepción) si la lista es NULL")
     void testCreateTeam_NullList_ThrowsException() {
-        when(playerService.getCurrentPlayer()).thenReturn(mockPlayer);
+        when(playerService.getCurrentPlayerWithTeam()).thenReturn(mockPlayer);
         TeamSetupDTO invalidDto = new TeamSetupDTO(null);
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -64,7 +68,7 @@ public class TeamValidationTest {
     @Test
     @DisplayName("Debe fallar si envían MENOS de 6 Pokémon")
     void testCreateTeam_TooFew_ThrowsException() {
-        when(playerService.getCurrentPlayer()).thenReturn(mockPlayer);
+        when(playerService.getCurrentPlayerWithTeam()).thenReturn(mockPlayer);
         TeamSetupDTO invalidDto = new TeamSetupDTO(Arrays.asList("Pikachu", "Charizard"));
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -75,7 +79,7 @@ public class TeamValidationTest {
     @Test
     @DisplayName("Debe fallar si envían MÁS de 6 Pokémon")
     void testCreateTeam_TooMany_ThrowsException() {
-        when(playerService.getCurrentPlayer()).thenReturn(mockPlayer);
+        when(playerService.getCurrentPlayerWithTeam()).thenReturn(mockPlayer);
         TeamSetupDTO invalidDto = new TeamSetupDTO(Arrays.asList(
                 "1", "2", "3", "4", "5", "6", "7"
         ));
@@ -88,16 +92,21 @@ public class TeamValidationTest {
     @Test
     @DisplayName("ÉXITO: Debe guardar si son EXACTAMENTE 6 Pokémon válidos")
     void testCreateTeam_ValidTeam_Success() {
-        when(playerService.getCurrentPlayer()).thenReturn(mockPlayer);
+        when(playerService.getCurrentPlayerWithTeam()).thenReturn(mockPlayer);
+        when(staticDataRegistry.current()).thenReturn(StaticDataSnapshot.EMPTY);
 
         List<String> validTeam = Arrays.asList("Pikachu", "Bulbasaur", "Charmander", "Squirtle", "Pidgey", "Rattata");
         TeamSetupDTO validDto = new TeamSetupDTO(validTeam);
 
-        StaticPokemonData mockData = StaticPokemonData.builder().baseHp(100).name("Dummy").build();
-        when(staticPokemonDataRepository.findByName(anyString())).thenReturn(Optional.of(mockData));
+        List<StaticPokemonData> mockData = validTeam.stream()
+                .map(name -> StaticPokemonData.builder().baseHp(100).name(name.toLowerCase()).build())
+                .toList();
+        when(staticPokemonDataRepository.findByNameIn(anyCollection())).thenReturn(mockData);
 
         teamService.createPlayerTeam(validDto);
 
+        verify(staticPokemonDataRepository, times(1)).findByNameIn(anyCollection());
+        verify(staticPokemonDataRepository, never()).findByName(anyString());
         verify(playerPokemonRepository, times(1)).saveAll(anyList());
     }
 }
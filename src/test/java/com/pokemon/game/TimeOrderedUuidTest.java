@@ -0,0 +1,44 @@
+package com.pokemon.game;
+
+import com.pokemon.game.util.TimeOrderedUuid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("UUID v7: versión 7, variante RFC y marca de tiempo actual")
+    void testVersionAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuid.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(TimeOrderedUuid.timestampMillis(id) >= before);
+        assertTrue(TimeOrderedUuid.timestampMillis(id) <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("UUID v7: los bytes (como en BINARY(16)) crecen aunque se generen en el mismo milisegundo")
+    void testBinaryOrderIsMonotonic() {
+        byte[] previous = bytes(TimeOrderedUuid.next());
+        for (int i = 0; i < 10_000; i++) {
+            byte[] current = bytes(TimeOrderedUuid.next());
+            assertTrue(Arrays.compareUnsigned(previous, current) < 0);
+            previous = current;
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pokemon.game;
+
+import com.pokemon.game.config.WarmupChannelInterceptor;
+import com.pokemon.game.config.WarmupHealthIndicator;
+import com.pokemon.game.service.WarmupState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarmupGateTest {
+
+    private WarmupState warmupState;
+    private ChannelInterceptor gate;
+
+    @BeforeEach
+    void setUp() {
+        warmupState = new WarmupState();
+        gate = new WarmupChannelInterceptor(warmupState);
+    }
+
+    private Message<byte[]> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("Calentamiento en curso: se rechazan mensajes de juego, no suscripciones ni conexiones")
+    void testGameTrafficBlockedDuringWarmup() {
+        warmupState.begin(WarmupState.Phase.INGESTING, 3);
+
+        assertThrows(MessageDeliveryException.class,
+                () -> gate.preSend(message(SimpMessageType.MESSAGE, "/app/matchmaking/find"), null));
+        assertNotNull(gate.preSend(message(SimpMessageType.SUBSCRIBE, "/user/queue/lobby"), null));
+        assertNotNull(gate.preSend(message(SimpMessageType.CONNECT, null), null));
+
+        assertEquals(Status.OUT_OF_SERVICE, new WarmupHealthIndicator(warmupState).health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Calentamiento terminado: el tráfico de juego pasa y readiness es UP")
+    void testGameTrafficAllowedWhenReady() {
+        warmupState.begin(WarmupState.Phase.INGESTING, 2);
+        warmupState.stepCompleted("REGISTRY");
+        warmupState.stepCompleted("TYPES");
+        warmupState.ready();
+
+        assertNotNull(gate.preSend(message(SimpMessageType.MESSAGE, "/app/battle/1/action"), null));
+        assertEquals(Status.UP, new WarmupHealthIndicator(warmupState).health().getStatus());
+        assertEquals(2, warmupState.status().completedSteps());
+        assertTrue(warmupState.status().ready());
+    }
+}